@@ -4,9 +4,14 @@ import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import de.tum.cit.fop.maze.actors.Player;
 import de.tum.cit.fop.maze.screens.*;
+import de.tum.cit.fop.maze.utility.Assets;
+import de.tum.cit.fop.maze.utility.LevelFile;
+import de.tum.cit.fop.maze.utility.LevelPreload;
+import de.tum.cit.fop.maze.utility.WorldGenerator;
 import games.spooky.gdx.nativefilechooser.NativeFileChooser;
 
 /**
@@ -23,6 +28,10 @@ public class MazeRunnerGame extends Game {
 
     private Music backgroundMusic;
 
+    private Assets assets;
+
+    private LevelPreload levelPreload;
+
     private int currentLevel = 0;
 
     public Player player;
@@ -38,11 +47,12 @@ public class MazeRunnerGame extends Game {
     }
 
     /**
-     * Called when the game is created. Initializes the SpriteBatch and Skin.
+     * Called when the game is created. Initializes the SpriteBatch, Skin and asset cache.
      */
     @Override
     public void create() {
         spriteBatch = new SpriteBatch();
+        assets = new Assets();
         skin = new Skin(Gdx.files.internal("craft/craftacular-ui.json"));
 
 
@@ -65,6 +75,7 @@ public class MazeRunnerGame extends Game {
         getScreen().dispose();
         spriteBatch.dispose();
         skin.dispose();
+        assets.dispose();
     }
 
 
@@ -90,7 +101,7 @@ public class MazeRunnerGame extends Game {
     public void restartGame(){
         this.player = new Player(this);
         this.currentLevel = 1;
-        this.setScreen(new GameScreen(this));
+        this.setScreen(reloadGameScreen());
     }
 
     public Skin getSkin() {
@@ -101,6 +112,49 @@ public class MazeRunnerGame extends Game {
         return spriteBatch;
     }
 
+    /**
+     * Starts loading a level in the background, so switching to it later doesn't have to wait for the files:
+     * the map and tilesets, the decoded level file and the assets of the level's objects.
+     *
+     * @param level the level to preload.
+     */
+    public void preloadLevel(int level) {
+        String path = WorldGenerator.getMapPath(level);
+        if (!Gdx.files.internal(path).exists()) {
+            return;
+        }
+        assets.preload(path, TiledMap.class);
+        if (levelPreload == null || levelPreload.getLevel() != level) {
+            levelPreload = new LevelPreload(level);
+        }
+    }
+
+    /**
+     * Continues preloading the next level. Called once per frame.
+     */
+    public void updateLevelPreload() {
+        if (levelPreload != null) {
+            levelPreload.update(assets);
+        }
+    }
+
+    /**
+     * Returns the compiled level file of a level, decoded in the background if the level was preloaded.
+     *
+     * @param level the level number.
+     * @return the level file, or null if the level has to be parsed from its TMX file.
+     */
+    public LevelFile loadLevelFile(int level) {
+        if (levelPreload != null && levelPreload.getLevel() == level) {
+            return levelPreload.getLevelFile();
+        }
+        return LevelFile.load(level);
+    }
+
+    public Assets getAssets() {
+        return assets;
+    }
+
     public Music getBackgroundMusic() {
         return backgroundMusic;
     }
@@ -111,14 +165,31 @@ public class MazeRunnerGame extends Game {
 
 
     public void setLevel(int level) {
-        if (gameScreen != null) {
-            gameScreen.dispose();
-            gameScreen = null;
-        }
-
         this.currentLevel = level;
-        this.gameScreen = new GameScreen(this);
-        setScreen(gameScreen);
+        setScreen(reloadGameScreen());
+    }
+
+    /**
+     * Creates a new game screen for the current level and disposes the old one.
+     * The assets of the new level are requested before the old level scope is released,
+     * so textures and sounds used by both levels stay loaded.
+     *
+     * @return the new game screen.
+     */
+    public GameScreen reloadGameScreen() {
+        Assets.Scope retiredScope = assets.beginLevelScope();
+        GameScreen previousScreen = gameScreen;
+
+        gameScreen = new GameScreen(this);
+
+        if (previousScreen != null) {
+            previousScreen.dispose();
+        }
+        assets.release(retiredScope);
+        assets.releasePreloads();
+        levelPreload = null;
+        assets.logUsage("Assets");
+        return gameScreen;
     }
 
     public int getCurrentLevel() { return currentLevel; }
@@ -1,14 +1,14 @@
 package de.tum.cit.fop.maze.actors;
 
 import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Interpolation;
 import de.tum.cit.fop.maze.utility.ActorController;
-import de.tum.cit.fop.maze.MazeRunnerGame;
+import de.tum.cit.fop.maze.utility.OccupancyGrid;
 import de.tum.cit.fop.maze.utility.Settings;
 import de.tum.cit.fop.maze.utility.WorldGenerator;
 
-import java.util.HashMap;
 
 /**
  * Abstract class responsible for an Actor in the game.
@@ -20,6 +20,8 @@ public abstract class Actor {
     protected int y;
     protected float gridX;
     protected float gridY;
+    protected float prevGridX;
+    protected float prevGridY;
 
     protected int origX;
     protected int origY;
@@ -32,9 +34,10 @@ public abstract class Actor {
 
     protected float stateTime = 0f;
 
-    protected HashMap<String, Animation<TextureRegion>> animations;
+    protected ActorArchetype archetype;
     protected Animation<TextureRegion> currentAnimation;
     public WorldGenerator world;
+    protected int occupancyId = OccupancyGrid.EMPTY;
 
     /**
      * Constructor for creating an Actor at a certain position.
@@ -47,8 +50,9 @@ public abstract class Actor {
         this.y = y;
         this.gridX = x;
         this.gridY = y;
+        this.prevGridX = x;
+        this.prevGridY = y;
         this.actorState = ActorController.ActorState.STANDING;
-        this.animations = new HashMap<>();
         this.world = world;
     }
 
@@ -57,13 +61,46 @@ public abstract class Actor {
      */
     public Actor() {
         this.actorState = ActorController.ActorState.STANDING;
-        this.animations = new HashMap<>();
     }
 
     public int getX() {
         return x;
     }
 
+    public float getGridX() {
+        return gridX;
+    }
+
+    public float getGridY() {
+        return gridY;
+    }
+
+    /**
+     * Returns the x-coordinate the actor is drawn at, between its positions after the last two ticks.
+     * @param alpha progress from the last towards the next tick, from 0 to 1.
+     * @return the interpolated x-coordinate in tiles.
+     */
+    public float getDrawX(float alpha) {
+        return prevGridX + (gridX - prevGridX) * alpha;
+    }
+
+    /**
+     * Returns the y-coordinate the actor is drawn at, between its positions after the last two ticks.
+     * @param alpha progress from the last towards the next tick, from 0 to 1.
+     * @return the interpolated y-coordinate in tiles.
+     */
+    public float getDrawY(float alpha) {
+        return prevGridY + (gridY - prevGridY) * alpha;
+    }
+
+    public int getOccupancyId() {
+        return occupancyId;
+    }
+
+    public void setOccupancyId(int occupancyId) {
+        this.occupancyId = occupancyId;
+    }
+
     public int getY() {
         return y;
     }
@@ -95,9 +132,8 @@ public abstract class Actor {
      * @param state State of the actor.
      * @return the respective animation, null if no animation is found.
      */
-    public Animation<TextureRegion> getAnimation(ActorController.Direction direction, String state) {
-        String key = direction.name() + "_" + state;
-        return animations.getOrDefault(key, null);
+    public Animation<TextureRegion> getAnimation(ActorController.Direction direction, ActorController.ActorState state) {
+        return archetype == null ? null : archetype.getAnimation(direction, state);
     }
 
     /**
@@ -105,9 +141,7 @@ public abstract class Actor {
      * @param state Current state of the actor.
      */
     public void updateAnimationTime(ActorController.ActorState state) {
-        if (this instanceof Enemy) {
-            animation_time = 0.25f;
-        } else if (this instanceof Player player) {
+        if (this instanceof Player player) {
             if (player.isDebuffed()) {
                 animation_time = 0.15f * 2f;
             } else {
@@ -121,22 +155,18 @@ public abstract class Actor {
     }
 
     /**
-     * Renders the actor on the screen.
-     * @param game instance of the maze runner game.
-     * @param stateTime current state time for the animation.
+     * Draws the actor at its current position, using its own animation time.
+     * The size of the sprite is taken from the actor's archetype.
+     * @param batch batch used for drawing.
+     * @param alpha progress from the last towards the next tick, from 0 to 1.
      */
-    public void render(MazeRunnerGame game, float stateTime) {
-        float actorSize;
-        if (this instanceof Enemy) {
-            actorSize = 2f;
-        } else
-            actorSize = 1f;
-        game.getSpriteBatch().draw(
-                getCurrentAnimation().getKeyFrame(stateTime, true),
-                gridX * Settings.SCALED_TILE_SIZE,
-                gridY * Settings.SCALED_TILE_SIZE,
-                Settings.SCALED_TILE_SIZE,
-                Settings.SCALED_TILE_SIZE * actorSize
+    public void draw(Batch batch, float alpha) {
+        batch.draw(
+                getCurrentAnimation().getKeyFrame(getStateTime(), true),
+                (getDrawX(alpha) + archetype.getDrawOffsetX()) * Settings.SCALED_TILE_SIZE,
+                getDrawY(alpha) * Settings.SCALED_TILE_SIZE,
+                Settings.SCALED_TILE_SIZE * archetype.getDrawWidth(),
+                Settings.SCALED_TILE_SIZE * archetype.getDrawHeight()
         );
     }
 
@@ -162,18 +192,16 @@ public abstract class Actor {
             return false;
         }
 
-        if (dx!=0 || dy != 0 ) {
-            if (this instanceof Enemy) {
-                if (world.isOccupiedByEnemy(newX, newY)) {
-                    return false;
-                }
-            }
-        }
-
         if (actorState != ActorController.ActorState.STANDING) {
             return false;
         }
 
+        if ((dx != 0 || dy != 0) && occupancyId != OccupancyGrid.EMPTY) {
+            if (!world.getOccupancy().occupy(newX, newY, occupancyId)) {
+                return false;
+            }
+        }
+
         origX = x;
         origY = y;
         destX = newX;
@@ -185,14 +213,24 @@ public abstract class Actor {
         animation_timer = 0f;
         actorState = ActorController.ActorState.WALKING;
 
+        if (dy != 0) {
+            world.getDepthOrder().move(this, origY);
+        }
+        if (dx != 0 || dy != 0) {
+            world.dispatchTileExit(this, origX, origY, destX, destY);
+        }
+
         return true;
     }
 
     /**
-     * Updates the actor's state and position.
-     * @param delta Change in time(in seconds) since last update.
+     * Advances the actor's state and position by one tick.
+     * Called for every actor, whether it is visible or not.
+     * @param delta time in seconds since the last tick.
      */
-    public void update(float delta) {
+    public void tick(float delta) {
+        prevGridX = gridX;
+        prevGridY = gridY;
         if (actorState == ActorController.ActorState.WALKING || actorState == ActorController.ActorState.RUNNING) {
             stateTime += delta;
             animation_timer += delta;
@@ -210,11 +248,19 @@ public abstract class Actor {
 
     /**
      * Finalizes the move of the actor.
+     * Releases the tile the actor came from and notifies the objects on the destination tile that the actor arrived.
      */
     private void finishMove() {
         gridX = destX;
         gridY = destY;
         actorState = ActorController.ActorState.STANDING;
         stateTime = 0f;
+
+        if (origX != destX || origY != destY) {
+            if (occupancyId != OccupancyGrid.EMPTY) {
+                world.getOccupancy().release(origX, origY, occupancyId);
+            }
+            world.dispatchTileEnter(this, origX, origY, destX, destY);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package de.tum.cit.fop.maze.actors;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import de.tum.cit.fop.maze.utility.ActorController;
+
+/**
+ * Visuals shared by all actors of one type: the animations and the size the sprite is drawn at.
+ * An archetype is created once per type and never changes afterwards, the actors themselves
+ * only keep their position and state and refer to it. The sprite sheets come from the game's
+ * asset cache, so any number of actors of a type use the same textures.
+ */
+public class ActorArchetype {
+
+    private final AnimationSet animations;
+    private final float drawWidth;
+    private final float drawHeight;
+    private final float drawOffsetX;
+
+    /**
+     * Constructor for an ActorArchetype.
+     * @param animations animations of the actor type, frozen by the archetype.
+     * @param drawWidth width of the sprite in tiles.
+     * @param drawHeight height of the sprite in tiles.
+     * @param drawOffsetX horizontal offset of the sprite from the actor's tile, in tiles.
+     */
+    public ActorArchetype(AnimationSet animations, float drawWidth, float drawHeight, float drawOffsetX) {
+        animations.freeze();
+        this.animations = animations;
+        this.drawWidth = drawWidth;
+        this.drawHeight = drawHeight;
+        this.drawOffsetX = drawOffsetX;
+    }
+
+    /**
+     * Checks if the archetype was built from a sprite sheet, i.e. if it can still be used after the sheet was requested again.
+     * @param sheet the sprite sheet.
+     * @return true if the archetype belongs to the sheet, false if not.
+     */
+    public boolean isBuiltFrom(TextureRegion sheet) {
+        return animations.isBuiltFrom(sheet);
+    }
+
+    /**
+     * Gets the animation for a direction and state.
+     * @param direction Direction the actor is facing.
+     * @param state State of the actor.
+     * @return the animation, null if the actor type has none for the combination.
+     */
+    public Animation<TextureRegion> getAnimation(ActorController.Direction direction, ActorController.ActorState state) {
+        return animations.get(direction, state);
+    }
+
+    public float getDrawWidth() {
+        return drawWidth;
+    }
+
+    public float getDrawHeight() {
+        return drawHeight;
+    }
+
+    public float getDrawOffsetX() {
+        return drawOffsetX;
+    }
+}
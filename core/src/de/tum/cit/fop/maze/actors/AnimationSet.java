@@ -0,0 +1,86 @@
+package de.tum.cit.fop.maze.actors;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import de.tum.cit.fop.maze.utility.ActorController;
+
+/**
+ * Animations of an actor type, indexed by direction and state.
+ * A set is built once per sprite sheet and shared by every actor of the type,
+ * so switching to another animation is an array lookup and doesn't create anything.
+ * The set is filled inside the actors package and frozen when an {@link ActorArchetype} wraps it,
+ * after that it can't be changed anymore.
+ */
+public class AnimationSet {
+
+    private final TextureRegion sheet;
+    private final Animation<TextureRegion>[][] animations;
+    private boolean frozen;
+
+    /**
+     * Creates an empty set for animations cut from a sprite sheet.
+     * @param sheet the sprite sheet the animations are made of.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public AnimationSet(TextureRegion sheet) {
+        this.sheet = sheet;
+        this.animations = new Animation[ActorController.Direction.values().length][ActorController.ActorState.values().length];
+    }
+
+    /**
+     * Checks if the set was built from a sprite sheet, i.e. if it can still be used after the sheet was requested again.
+     * @param sheet the sprite sheet.
+     * @return true if the set belongs to the sheet, false if not.
+     */
+    public boolean isBuiltFrom(TextureRegion sheet) {
+        return this.sheet == sheet;
+    }
+
+    /**
+     * Sets the animation for a direction and state.
+     * @param direction Direction the actor is facing.
+     * @param state State of the actor.
+     * @param animation the animation.
+     * @throws IllegalStateException if the set is already frozen.
+     */
+    void put(ActorController.Direction direction, ActorController.ActorState state, Animation<TextureRegion> animation) {
+        if (frozen) {
+            throw new IllegalStateException("Animations of a shared archetype can't be changed");
+        }
+        animations[direction.ordinal()][state.ordinal()] = animation;
+    }
+
+    /**
+     * Sets the animations of a state for all four directions.
+     * @param state State of the actor.
+     * @param up animation facing up.
+     * @param down animation facing down.
+     * @param left animation facing left.
+     * @param right animation facing right.
+     * @throws IllegalStateException if the set is already frozen.
+     */
+    void put(ActorController.ActorState state, Animation<TextureRegion> up, Animation<TextureRegion> down,
+                    Animation<TextureRegion> left, Animation<TextureRegion> right) {
+        put(ActorController.Direction.W, state, up);
+        put(ActorController.Direction.S, state, down);
+        put(ActorController.Direction.A, state, left);
+        put(ActorController.Direction.D, state, right);
+    }
+
+    /**
+     * Prevents any further changes to the set.
+     */
+    void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * Gets the animation for a direction and state.
+     * @param direction Direction the actor is facing.
+     * @param state State of the actor.
+     * @return the animation, null if the actor type has none for the combination.
+     */
+    public Animation<TextureRegion> get(ActorController.Direction direction, ActorController.ActorState state) {
+        return animations[direction.ordinal()][state.ordinal()];
+    }
+}
@@ -1,13 +1,12 @@
 package de.tum.cit.fop.maze.actors;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 import de.tum.cit.fop.maze.MazeRunnerGame;
 import de.tum.cit.fop.maze.utility.ActorController;
-import de.tum.cit.fop.maze.utility.Settings;
+import de.tum.cit.fop.maze.utility.Assets;
+import de.tum.cit.fop.maze.utility.OccupancyGrid;
 import de.tum.cit.fop.maze.utility.WorldGenerator;
 
 /**
@@ -15,38 +14,39 @@ import de.tum.cit.fop.maze.utility.WorldGenerator;
  * Extends the Actor class for the animations.
  */
 public class Boss extends Actor {
+    private static final String[] SHEET_DIRECTIONS = {"Down", "Up", "Left", "Right"};
+
     private Animation<TextureRegion> currentAnimation;
     private ActorController.Direction lastDirection;
     private ActorController.ActorState actorState;
 
-    private final Animation<TextureRegion> walkingDownAnimation;
-    private final Animation<TextureRegion> walkingUpAnimation;
-    private final Animation<TextureRegion> walkingLeftAnimation;
-    private final Animation<TextureRegion> walkingRightAnimation;
-
-    private final Animation<TextureRegion> runningDownAnimation;
-    private final Animation<TextureRegion> runningUpAnimation;
-    private final Animation<TextureRegion> runningLeftAnimation;
-    private final Animation<TextureRegion> runningRightAnimation;
-
-    private final Animation<TextureRegion> standingDownAnimation;
-    private final Animation<TextureRegion> standingUpAnimation;
-    private final Animation<TextureRegion> standingLeftAnimation;
-    private final Animation<TextureRegion> standingRightAnimation;
-
-    private Animation<TextureRegion> animation;
+    /**
+     * Visuals of the boss, built once and kept for all levels.
+     */
+    private static ActorArchetype sharedArchetype;
 
-    private Texture bossWalkDownSheet;
-    private Texture bossWalkUpSheet;
-    private Texture bossWalkLeftSheet;
-    private Texture bossWalkRightSheet;
+    private boolean isAlive = true;
 
-    private Texture BossStandDownSheet;
-    private Texture BossStandUpSheet;
-    private Texture BossStandLeftSheet;
-    private Texture BossStandRightSheet;
+    /**
+     * Queues the walking and idle sheets of the boss for loading in the background.
+     * @param assets the game's asset cache.
+     */
+    public static void preloadAssets(Assets assets) {
+        for (String direction : SHEET_DIRECTIONS) {
+            assets.preloadRegion(getSheetPath(direction, "Walk"));
+            assets.preloadRegion(getSheetPath(direction, "Idle"));
+        }
+    }
 
-    private boolean isAlive = true;
+    /**
+     * Returns the path of one of the boss's sprite sheets.
+     * @param direction "Down", "Up", "Left" or "Right".
+     * @param state "Walk" or "Idle".
+     * @return internal path of the sheet.
+     */
+    private static String getSheetPath(String direction, String state) {
+        return "Sprites/BOSS_PACK/" + direction + "/Png/AncientSkeleton" + direction + state + ".png";
+    }
 
     /**
      * Constructor for a Boss.
@@ -58,16 +58,29 @@ public class Boss extends Actor {
     public Boss(int x, int y, WorldGenerator world) {
         super(x, y, world);
 
-        bossWalkDownSheet = new Texture(Gdx.files.internal("Sprites/BOSS_PACK/Down/Png/AncientSkeletonDownWalk.png"));
-        bossWalkUpSheet = new Texture(Gdx.files.internal("Sprites/BOSS_PACK/Up/Png/AncientSkeletonUpWalk.png"));
-        bossWalkLeftSheet = new Texture(Gdx.files.internal("Sprites/BOSS_PACK/Left/Png/AncientSkeletonLeftWalk.png"));
-        bossWalkRightSheet = new Texture(Gdx.files.internal("Sprites/BOSS_PACK/Right/Png/AncientSkeletonRightWalk.png"));
+        archetype = loadArchetype(world.getGame().getAssets());
+        currentAnimation = archetype.getAnimation(ActorController.Direction.S, ActorController.ActorState.STANDING);
+    }
 
-        BossStandDownSheet = new Texture(Gdx.files.internal("Sprites/BOSS_PACK/Down/Png/AncientSkeletonDownIdle.png"));
-        BossStandUpSheet = new Texture(Gdx.files.internal("Sprites/BOSS_PACK/Up/Png/AncientSkeletonUpIdle.png"));
-        BossStandLeftSheet =  new Texture(Gdx.files.internal("Sprites/BOSS_PACK/Left/Png/AncientSkeletonLeftIdle.png"));
-        BossStandRightSheet = new Texture(Gdx.files.internal("Sprites/BOSS_PACK/Right/Png/AncientSkeletonRightIdle.png"));
+    /**
+     * Returns the boss archetype, cutting the animations from the sprite sheets the first time.
+     * The boss is drawn three tiles wide and high, centered on its tile.
+     * @param assets the game's asset cache.
+     * @return the shared archetype.
+     */
+    private static ActorArchetype loadArchetype(Assets assets) {
+        TextureRegion bossWalkDownSheet = assets.getRegion(getSheetPath("Down", "Walk"));
+        if (sharedArchetype != null && sharedArchetype.isBuiltFrom(bossWalkDownSheet)) {
+            return sharedArchetype;
+        }
+        TextureRegion bossWalkUpSheet = assets.getRegion(getSheetPath("Up", "Walk"));
+        TextureRegion bossWalkLeftSheet = assets.getRegion(getSheetPath("Left", "Walk"));
+        TextureRegion bossWalkRightSheet = assets.getRegion(getSheetPath("Right", "Walk"));
 
+        TextureRegion BossStandDownSheet = assets.getRegion(getSheetPath("Down", "Idle"));
+        TextureRegion BossStandUpSheet = assets.getRegion(getSheetPath("Up", "Idle"));
+        TextureRegion BossStandLeftSheet = assets.getRegion(getSheetPath("Left", "Idle"));
+        TextureRegion BossStandRightSheet = assets.getRegion(getSheetPath("Right", "Idle"));
 
         int frameWidth = 80;
         int frameHeight = 80;
@@ -96,35 +109,37 @@ public class Boss extends Actor {
             }
         }
 
-        walkingDownAnimation = new Animation<>(0.1f, walkDownFrames, Animation.PlayMode.LOOP);
-        walkingUpAnimation = new Animation<>(0.1f, walkUpFrames, Animation.PlayMode.LOOP);
-        walkingLeftAnimation = new Animation<>(0.1f, walkLeftFrames, Animation.PlayMode.LOOP);
-        walkingRightAnimation = new Animation<>(0.1f, walkRightFrames, Animation.PlayMode.LOOP);
-
-        runningDownAnimation = new Animation<>(0.1f, walkDownFrames, Animation.PlayMode.LOOP);
-        runningUpAnimation = new Animation<>(0.1f, walkUpFrames, Animation.PlayMode.LOOP);
-        runningLeftAnimation = new Animation<>(0.1f, walkLeftFrames, Animation.PlayMode.LOOP);
-        runningRightAnimation = new Animation<>(0.1f, walkRightFrames, Animation.PlayMode.LOOP);
-
-        standingDownAnimation = new Animation<>(0.1f, standingDownFrames, Animation.PlayMode.LOOP);
-        standingLeftAnimation = new Animation<>(0.1f, standingLeftFrames, Animation.PlayMode.LOOP);
-        standingRightAnimation = new Animation<>(0.1f, standingRightFrames, Animation.PlayMode.LOOP);
-        standingUpAnimation = new Animation<>(0.1f, standingUpFrames, Animation.PlayMode.LOOP);
-
-
-        currentAnimation = standingDownAnimation;
+        AnimationSet animations = new AnimationSet(bossWalkDownSheet);
+        animations.put(ActorController.ActorState.WALKING,
+                new Animation<>(0.1f, walkUpFrames, Animation.PlayMode.LOOP),
+                new Animation<>(0.1f, walkDownFrames, Animation.PlayMode.LOOP),
+                new Animation<>(0.1f, walkLeftFrames, Animation.PlayMode.LOOP),
+                new Animation<>(0.1f, walkRightFrames, Animation.PlayMode.LOOP));
+        animations.put(ActorController.ActorState.RUNNING,
+                new Animation<>(0.1f, walkUpFrames, Animation.PlayMode.LOOP),
+                new Animation<>(0.1f, walkDownFrames, Animation.PlayMode.LOOP),
+                new Animation<>(0.1f, walkLeftFrames, Animation.PlayMode.LOOP),
+                new Animation<>(0.1f, walkRightFrames, Animation.PlayMode.LOOP));
+        animations.put(ActorController.ActorState.STANDING,
+                new Animation<>(0.1f, standingUpFrames, Animation.PlayMode.LOOP),
+                new Animation<>(0.1f, standingDownFrames, Animation.PlayMode.LOOP),
+                new Animation<>(0.1f, standingLeftFrames, Animation.PlayMode.LOOP),
+                new Animation<>(0.1f, standingRightFrames, Animation.PlayMode.LOOP));
+
+        sharedArchetype = new ActorArchetype(animations, 3f, 3f, -1f);
+        return sharedArchetype;
     }
 
     /**
      * Updates Boss's state.
-     * @param delta Change in time(in seconds) since last update.
+     * @param delta time in seconds since the last tick.
      */
     @Override
-    public void update(float delta) {
+    public void tick(float delta) {
         if (isAlive) {
             animation_timer += delta;
             stateTime += delta;
-            super.update(delta);
+            super.tick(delta);
         }
     }
 
@@ -142,48 +157,26 @@ public class Boss extends Actor {
         this.lastDirection = direction;
         this.actorState = state;
 
-        if (state == ActorController.ActorState.WALKING) {
-            switch (direction) {
-                case W -> currentAnimation = walkingUpAnimation;
-                case S -> currentAnimation = walkingDownAnimation;
-                case A -> currentAnimation = walkingLeftAnimation;
-                case D -> currentAnimation = walkingRightAnimation;
-            }
-        } else if (state == ActorController.ActorState.RUNNING){
-            switch (direction) {
-                case W -> currentAnimation = runningUpAnimation;
-                case S -> currentAnimation = runningDownAnimation;
-                case A -> currentAnimation = runningLeftAnimation;
-                case D -> currentAnimation = runningRightAnimation;
-            }
-        } else if (state == ActorController.ActorState.STANDING) {
-            switch (direction) {
-                case W -> currentAnimation = standingUpAnimation;
-                case S -> currentAnimation = standingDownAnimation;
-                case A -> currentAnimation = standingLeftAnimation;
-                case D -> currentAnimation = standingRightAnimation;
-            }
+        Animation<TextureRegion> next = archetype.getAnimation(direction, state);
+        if (next != null) {
+            currentAnimation = next;
+        }
+        if (state == ActorController.ActorState.STANDING) {
             stateTime = 0;
         }
     }
 
-
-
-    @Override
-    public void render(MazeRunnerGame game, float stateTime) {
-        game.getSpriteBatch().draw(
-                currentAnimation.getKeyFrame(this.stateTime, true),
-                (gridX - 1) * Settings.SCALED_TILE_SIZE,
-                gridY * Settings.SCALED_TILE_SIZE,
-                Settings.SCALED_TILE_SIZE * 3f,
-                Settings.SCALED_TILE_SIZE * 3f);
-    }
-
     public boolean isAlive() {
         return isAlive;
     }
 
+    /**
+     * Kills the boss and frees its tile.
+     */
     public void killBoss() {
         this.isAlive = false;
+        if (world != null && occupancyId != OccupancyGrid.EMPTY) {
+            world.getOccupancy().release(x, y, occupancyId);
+        }
     }
 }
\ No newline at end of file
@@ -1,41 +1,39 @@
 package de.tum.cit.fop.maze.actors;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 import de.tum.cit.fop.maze.utility.ActorController;
-import de.tum.cit.fop.maze.utility.PathFinder;
+import de.tum.cit.fop.maze.utility.Assets;
+import de.tum.cit.fop.maze.utility.EnemySystem;
 import de.tum.cit.fop.maze.utility.WorldGenerator;
 
-import java.util.List;
-
 /**
  * Enemy class is responsible for the enemies in the game.
- * Extends the actor class and implements enemy animations and movement.
+ * The state and movement of all enemies is simulated by the world's {@link EnemySystem},
+ * an Enemy only holds its index in there and exposes that state as an {@link Actor},
+ * so it can be drawn, sorted and found on the occupancy grid like any other actor.
  */
 public class Enemy extends Actor {
 
-    private Player player;
-
-    private Animation<TextureRegion> currentAnimation;
-    private ActorController.Direction lastDirection;
-    private ActorController.ActorState actorState;
-
-    private final Animation<TextureRegion> walkingDownAnimation, walkingUpAnimation, walkingLeftAnimation, walkingRightAnimation;
-    private TextureRegion standingDownFrame, standingUpFrame, standingLeftFrame, standingRightFrame;
-
-    private Animation<TextureRegion> animation;
+    private static final ActorController.Direction[] DIRECTIONS = ActorController.Direction.values();
+    private static final String SHEET_PATH = "Sprites/Provided/mobs.png";
 
-    private Texture npcSheet;
-
-    private List<int[]> path;
-    private int pathIndex;
+    /**
+     * Visuals shared by all enemies.
+     */
+    private static ActorArchetype sharedArchetype;
 
-    private int goalX, goalY, distanceX, distanceY;
+    private final EnemySystem system;
+    private final int index;
 
-    private final int aggroRange =5;
+    /**
+     * Queues the assets of an enemy for loading in the background.
+     * @param assets the game's asset cache.
+     */
+    public static void preloadAssets(Assets assets) {
+        assets.preloadRegion(SHEET_PATH);
+    }
 
     /**
      * Constructor for Enemy at the specified position in the given world.
@@ -47,7 +45,21 @@ public class Enemy extends Actor {
     public Enemy(int x, int y, WorldGenerator world) {
         super(x, y, world);
 
-        player = world.getPlayer();
+        archetype = loadArchetype(world.getGame().getAssets().getRegion(SHEET_PATH));
+        system = world.getEnemySystem();
+        index = system.spawn(this, x, y);
+    }
+
+    /**
+     * Returns the enemy archetype, cutting the animations from the sprite sheet for the first enemy only.
+     * Enemies don't run, the running animations are the walking ones. Enemies are drawn one tile wide and two tiles high.
+     * @param npcSheet the sprite sheet of the enemies.
+     * @return the archetype shared by all enemies.
+     */
+    private static ActorArchetype loadArchetype(TextureRegion npcSheet) {
+        if (sharedArchetype != null && sharedArchetype.isBuiltFrom(npcSheet)) {
+            return sharedArchetype;
+        }
 
         Array<TextureRegion> walkDownFrames = new Array<>(TextureRegion.class);
         Array<TextureRegion> walkUpFrames = new Array<>(TextureRegion.class);
@@ -58,8 +70,6 @@ public class Enemy extends Actor {
         int frameHeight = 16;
         int animationFrames = 3;
 
-        npcSheet = new Texture(Gdx.files.internal("Sprites/Provided/mobs.png"));
-
         for (int col = 0; col < animationFrames; col++) {
             walkDownFrames.add(new TextureRegion(npcSheet, col * frameWidth, 4 * frameHeight, frameWidth, frameHeight));
             walkLeftFrames.add(new TextureRegion(npcSheet, col * frameWidth, 5 * frameHeight, frameWidth, frameHeight));
@@ -67,137 +77,95 @@ public class Enemy extends Actor {
             walkUpFrames.add(new TextureRegion(npcSheet, col * frameWidth, 7 * frameHeight, frameWidth, frameHeight));
         }
 
-        standingDownFrame = new TextureRegion(npcSheet, 1, 4 * frameHeight, frameWidth, frameHeight);
-        standingLeftFrame = new TextureRegion(npcSheet, 1, 5 * frameHeight, frameWidth, frameHeight);
-        standingRightFrame = new TextureRegion(npcSheet, 1, 6 * frameHeight, frameWidth, frameHeight);
-        standingUpFrame = new TextureRegion(npcSheet, 1, 7 * frameHeight, frameWidth, frameHeight);
+        Animation<TextureRegion> walkingUpAnimation = new Animation<>(0.06f, walkUpFrames, Animation.PlayMode.LOOP);
+        Animation<TextureRegion> walkingDownAnimation = new Animation<>(0.06f, walkDownFrames, Animation.PlayMode.LOOP);
+        Animation<TextureRegion> walkingLeftAnimation = new Animation<>(0.06f, walkLeftFrames, Animation.PlayMode.LOOP);
+        Animation<TextureRegion> walkingRightAnimation = new Animation<>(0.06f, walkRightFrames, Animation.PlayMode.LOOP);
+
+        AnimationSet animations = new AnimationSet(npcSheet);
+        animations.put(ActorController.ActorState.WALKING, walkingUpAnimation, walkingDownAnimation, walkingLeftAnimation, walkingRightAnimation);
+        animations.put(ActorController.ActorState.RUNNING, walkingUpAnimation, walkingDownAnimation, walkingLeftAnimation, walkingRightAnimation);
+        animations.put(ActorController.ActorState.STANDING,
+                new Animation<>(Float.MAX_VALUE, new TextureRegion(npcSheet, 1, 7 * frameHeight, frameWidth, frameHeight)),
+                new Animation<>(Float.MAX_VALUE, new TextureRegion(npcSheet, 1, 4 * frameHeight, frameWidth, frameHeight)),
+                new Animation<>(Float.MAX_VALUE, new TextureRegion(npcSheet, 1, 5 * frameHeight, frameWidth, frameHeight)),
+                new Animation<>(Float.MAX_VALUE, new TextureRegion(npcSheet, 1, 6 * frameHeight, frameWidth, frameHeight)));
+
+        sharedArchetype = new ActorArchetype(animations, 1f, 2f, 0f);
+        return sharedArchetype;
+    }
 
+    @Override
+    public int getX() {
+        return system.getX(index);
+    }
 
-        walkingDownAnimation = new Animation<>(0.06f, walkDownFrames, Animation.PlayMode.LOOP);
-        walkingUpAnimation = new Animation<>(0.06f, walkUpFrames, Animation.PlayMode.LOOP);
-        walkingLeftAnimation = new Animation<>(0.06f, walkLeftFrames, Animation.PlayMode.LOOP);
-        walkingRightAnimation = new Animation<>(0.06f, walkRightFrames, Animation.PlayMode.LOOP);
+    @Override
+    public int getY() {
+        return system.getY(index);
+    }
 
-        currentAnimation = new Animation<>(Float.MAX_VALUE, standingDownFrame);
-        path = null;
-        pathIndex = 0;
-        goalX = -1;
-        goalY = -1;
+    @Override
+    public float getGridX() {
+        return system.getGridX(index);
     }
 
-    /**
-     * Updates the enemy's path based on the player's position.
-     *
-     * @param playerX x-coordinate of the player.
-     * @param playerY y-coordinate of the player.
-     */
-    public void updatePath(int playerX, int playerY) {
-        updateDistanceToPlayer();
+    @Override
+    public float getGridY() {
+        return system.getGridY(index);
+    }
 
-        boolean isPlayerInRange = distanceX <= aggroRange && distanceY <= aggroRange;
+    @Override
+    public float getDrawX(float alpha) {
+        return system.getDrawX(index, alpha);
+    }
 
-        if (isPlayerInRange) {
-            path = PathFinder.findPath(this.getX(), this.getY(), playerX, playerY, world);
-            pathIndex = 0;
-        } else  {
-            setRandomGoal();
-        }
+    @Override
+    public float getDrawY(float alpha) {
+        return system.getDrawY(index, alpha);
     }
 
-    /**
-     * Makes the enemy follow its current path.
-     *
-     * @return The direction the enemy moved in, null if no movement occurred.
-     */
-    public ActorController.Direction followPath() {
-        if (player == null) return null;
+    @Override
+    public float getStateTime() {
+        return system.getStateTime(index);
+    }
 
-        if (path == null || pathIndex >= path.size()) {
-            updatePath(player.getX(), player.getY());
-        }
+    @Override
+    public int getOccupancyId() {
+        return system.getOccupancyId(index);
+    }
 
-        if (path != null && pathIndex < path.size() && getState() == ActorController.ActorState.STANDING) {
-
-            int[] nextStep = path.get(pathIndex);
-            int dx = nextStep[0] - this.getX();
-            int dy = nextStep[1] - this.getY();
-
-            ActorController.Direction direction = null;
-            if (dy > 0) direction = ActorController.Direction.W;
-            else if (dy < 0) direction = ActorController.Direction.S;
-            else if (dx < 0) direction = ActorController.Direction.A;
-            else if (dx > 0) direction = ActorController.Direction.D;
-
-            if (this.move(dx, dy, WorldGenerator.getMapWidth(), WorldGenerator.getMapHeight())) {
-                pathIndex++;
-                updateDistanceToPlayer();
-                return direction;
-            } else {
-                path = null;
-            }
-        }
-        return null;
+    @Override
+    public void setOccupancyId(int occupancyId) {
+        system.setOccupancyId(index, occupancyId);
     }
 
     /**
-     * Sets a random goal for the enemy to move towards.
+     * Enemies are advanced by the {@link EnemySystem}, there is nothing to do per instance.
+     * @param delta time in seconds since the last tick.
      */
-    private void setRandomGoal() {
-        do {
-            goalX = (int) (Math.random() * WorldGenerator.getMapWidth());
-            goalY = (int) (Math.random() * WorldGenerator.getMapHeight());
-        } while (!world.isPassable(goalX, goalY));
-
-        path = PathFinder.findPath(this.getX(), this.getY(), goalX, goalY, world);
-        pathIndex = 0;
-    }
+    @Override
+    public void tick(float delta) {}
 
     /**
-     * Updates current distance to player
+     * Gets the animation matching the direction and movement of the enemy.
+     * @return the current animation.
      */
-    private void updateDistanceToPlayer() {
-        if (player != null) {
-            distanceX = Math.abs(player.getX() - this.getX());
-            distanceY = Math.abs(player.getY() - this.getY());
-        }
-    }
-
-    public void setPlayer(Player player) {
-        this.player = player;
-    }
-
     @Override
     public Animation<TextureRegion> getCurrentAnimation() {
-        return currentAnimation;
+        ActorController.ActorState state = system.isMoving(index)
+                ? ActorController.ActorState.WALKING
+                : ActorController.ActorState.STANDING;
+        return archetype.getAnimation(DIRECTIONS[system.getDirection(index)], state);
     }
 
     /**
-     * Sets the animation based on the direction and state of the enemy.
+     * The animation of an enemy follows its state in the {@link EnemySystem}, nothing to set here.
      *
      * @param direction direction the enemy is facing.
      * @param state current state of the enemy.
-     * @param animation animation to be set (not used in this implementation.
+     * @param animation animation to be set (not used in this implementation).
      */
     @Override
-    public void setAnimation(ActorController.Direction direction, ActorController.ActorState state, Animation<TextureRegion> animation) {
-        this.lastDirection = direction;
-        this.actorState = state;
-
-        if (state == ActorController.ActorState.WALKING || state == ActorController.ActorState.RUNNING) {
-            switch (direction) {
-                case W -> currentAnimation = walkingUpAnimation;
-                case S -> currentAnimation = walkingDownAnimation;
-                case A -> currentAnimation = walkingLeftAnimation;
-                case D -> currentAnimation = walkingRightAnimation;
-            }
-        } else if (state == ActorController.ActorState.STANDING) {
-            switch (direction) {
-                case W -> currentAnimation = new Animation<>(Float.MAX_VALUE, standingUpFrame);
-                case S -> currentAnimation = new Animation<>(Float.MAX_VALUE, standingDownFrame);
-                case A -> currentAnimation = new Animation<>(Float.MAX_VALUE, standingLeftFrame);
-                case D -> currentAnimation = new Animation<>(Float.MAX_VALUE, standingRightFrame);
-            }
-        }
-    }
+    public void setAnimation(ActorController.Direction direction, ActorController.ActorState state, Animation<TextureRegion> animation) {}
 }
-
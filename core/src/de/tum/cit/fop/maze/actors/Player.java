@@ -1,15 +1,13 @@
 package de.tum.cit.fop.maze.actors;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 import de.tum.cit.fop.maze.MazeRunnerGame;
 import de.tum.cit.fop.maze.screens.DefeatScreen;
 import de.tum.cit.fop.maze.utility.ActorController;
-import de.tum.cit.fop.maze.utility.Settings;
 import de.tum.cit.fop.maze.utility.WorldGenerator;
 
 /**
@@ -25,18 +23,21 @@ public class Player extends Actor{
     private ActorController.Direction lastDirection;
     private ActorController.ActorState actorState;
 
-    private final Animation<TextureRegion> walkingDownAnimation, walkingUpAnimation, walkingLeftAnimation, walkingRightAnimation;
-    private final Animation<TextureRegion>  runningDownAnimation, runningUpAnimation, runningLeftAnimation,runningRightAnimation;
-    private final TextureRegion standingDownFrame, standingUpFrame, standingLeftFrame, standingRightFrame;
-
-    int frameWidth = 64;
-    int frameHeight = 60;
-    int animationFrames = 12;
+    /**
+     * Visuals of the player, built once and kept for all levels.
+     */
+    private static ActorArchetype sharedArchetype;
 
     private int lives = 10;
     private int maxLives = 10;
 
-    private int iFrames = 0;
+    /**
+     * Time in seconds the player can't be hurt again after losing a life, and the period the sprite blinks with meanwhile.
+     */
+    private static final float INVINCIBILITY_TIME = 1.5f;
+    private static final float BLINK_PERIOD = 1f / 3f;
+
+    private float invincibilityTimer = 0f;
     private int points = 0;
 
     private boolean hasKey = false;
@@ -60,10 +61,27 @@ public class Player extends Actor{
         this.lastDirection = ActorController.Direction.S;
         this.actorState = ActorController.ActorState.STANDING;
 
-        this.hurtSound = Gdx.audio.newMusic(Gdx.files.internal("Sounds/SoundFX/hurtSound.mp3"));
-        this.keySound =  Gdx.audio.newMusic(Gdx.files.internal("Sounds/SoundFX/Key_collection.mp3"));
+        this.hurtSound = game.getAssets().getGlobalMusic("Sounds/SoundFX/hurtSound.mp3");
+        this.keySound =  game.getAssets().getGlobalMusic("Sounds/SoundFX/Key_collection.mp3");
+
+        archetype = loadArchetype(game.getAssets().getRegion("Sprites/walkcyclevarious.png"));
+        currentAnimation = archetype.getAnimation(ActorController.Direction.S, ActorController.ActorState.STANDING);
+    }
+
+    /**
+     * Returns the player archetype, cutting the animations from the sprite sheet the first time.
+     * The player is drawn two tiles wide and high.
+     * @param walkSheet the player's sprite sheet.
+     * @return the shared archetype.
+     */
+    private static ActorArchetype loadArchetype(TextureRegion walkSheet) {
+        if (sharedArchetype != null && sharedArchetype.isBuiltFrom(walkSheet)) {
+            return sharedArchetype;
+        }
 
-        Texture walkSheet = new Texture(Gdx.files.internal("Sprites/walkcyclevarious.png"));
+        int frameWidth = 64;
+        int frameHeight = 60;
+        int animationFrames = 12;
 
         Array<TextureRegion> walkDownFrames = new Array<>(TextureRegion.class);
         Array<TextureRegion> walkUpFrames = new Array<>(TextureRegion.class);
@@ -77,22 +95,25 @@ public class Player extends Actor{
             else {walkLeftFrames.add(new TextureRegion(walkSheet, col * frameWidth + 20, 6 * frameHeight, frameWidth - 20, frameHeight));}
         }
 
-        walkingDownAnimation = new Animation<>(0.1f, walkDownFrames, Animation.PlayMode.LOOP);
-        walkingUpAnimation = new Animation<>(0.1f, walkUpFrames, Animation.PlayMode.LOOP);
-        walkingLeftAnimation = new Animation<>(0.1f, walkLeftFrames, Animation.PlayMode.LOOP);
-        walkingRightAnimation = new Animation<>(0.1f, walkRightFrames, Animation.PlayMode.LOOP);
-
-        runningDownAnimation = new Animation<>(0.06f, walkDownFrames, Animation.PlayMode.LOOP);
-        runningUpAnimation = new Animation<>(0.06f, walkUpFrames, Animation.PlayMode.LOOP);
-        runningLeftAnimation = new Animation<>(0.06f, walkLeftFrames, Animation.PlayMode.LOOP);
-        runningRightAnimation = new Animation<>(0.06f, walkRightFrames, Animation.PlayMode.LOOP);
-
-        standingDownFrame = new TextureRegion(walkSheet, 7*frameWidth + 20, 6*frameHeight, frameWidth - 20, frameHeight);
-        standingRightFrame = new TextureRegion(walkSheet, 4*frameWidth + 20, 6*frameHeight, frameWidth - 20, frameHeight);
-        standingUpFrame = new TextureRegion(walkSheet, 1*frameWidth + 20, 6*frameHeight, frameWidth - 20, frameHeight);
-        standingLeftFrame = new TextureRegion(walkSheet, 10*frameWidth + 20, 6 * frameHeight, frameWidth - 20, frameHeight);
-
-        currentAnimation = new Animation<>(Float.MAX_VALUE, standingDownFrame);
+        AnimationSet animations = new AnimationSet(walkSheet);
+        animations.put(ActorController.ActorState.WALKING,
+                new Animation<>(0.1f, walkUpFrames, Animation.PlayMode.LOOP),
+                new Animation<>(0.1f, walkDownFrames, Animation.PlayMode.LOOP),
+                new Animation<>(0.1f, walkLeftFrames, Animation.PlayMode.LOOP),
+                new Animation<>(0.1f, walkRightFrames, Animation.PlayMode.LOOP));
+        animations.put(ActorController.ActorState.RUNNING,
+                new Animation<>(0.06f, walkUpFrames, Animation.PlayMode.LOOP),
+                new Animation<>(0.06f, walkDownFrames, Animation.PlayMode.LOOP),
+                new Animation<>(0.06f, walkLeftFrames, Animation.PlayMode.LOOP),
+                new Animation<>(0.06f, walkRightFrames, Animation.PlayMode.LOOP));
+        animations.put(ActorController.ActorState.STANDING,
+                new Animation<>(Float.MAX_VALUE, new TextureRegion(walkSheet, 1*frameWidth + 20, 6*frameHeight, frameWidth - 20, frameHeight)),
+                new Animation<>(Float.MAX_VALUE, new TextureRegion(walkSheet, 7*frameWidth + 20, 6*frameHeight, frameWidth - 20, frameHeight)),
+                new Animation<>(Float.MAX_VALUE, new TextureRegion(walkSheet, 10*frameWidth + 20, 6 * frameHeight, frameWidth - 20, frameHeight)),
+                new Animation<>(Float.MAX_VALUE, new TextureRegion(walkSheet, 4*frameWidth + 20, 6*frameHeight, frameWidth - 20, frameHeight)));
+
+        sharedArchetype = new ActorArchetype(animations, 2f, 2f, 0f);
+        return sharedArchetype;
     }
 
     /**
@@ -105,58 +126,35 @@ public class Player extends Actor{
         this.lastDirection = direction;
         this.actorState = state;
 
-        if (state == ActorController.ActorState.WALKING) {
-            switch (direction) {
-                case W -> currentAnimation = walkingUpAnimation;
-                case S -> currentAnimation = walkingDownAnimation;
-                case A -> currentAnimation = walkingLeftAnimation;
-                case D -> currentAnimation = walkingRightAnimation;
-            }
-        } else if (state == ActorController.ActorState.RUNNING){
-            switch (direction) {
-                case W -> currentAnimation = runningUpAnimation;
-                case S -> currentAnimation = runningDownAnimation;
-                case A -> currentAnimation = runningLeftAnimation;
-                case D -> currentAnimation = runningRightAnimation;
-            }
-        } else if (state == ActorController.ActorState.STANDING) {
-            switch (direction) {
-                case W -> currentAnimation = new Animation<>(Float.MAX_VALUE, standingUpFrame);
-                case S -> currentAnimation = new Animation<>(Float.MAX_VALUE, standingDownFrame);
-                case A -> currentAnimation = new Animation<>(Float.MAX_VALUE, standingLeftFrame);
-                case D -> currentAnimation = new Animation<>(Float.MAX_VALUE, standingRightFrame);
-            }
+        Animation<TextureRegion> next = archetype.getAnimation(direction, state);
+        if (next != null) {
+            currentAnimation = next;
         }
     }
 
     /**
-     * Renders the player on teh screen.
-     * @param game instance of the maze runner game.
-     * @param stateTime current state time for the animation.
+     * Draws the player on the screen, skipping frames while the player is invincible.
+     * @param batch batch used for drawing.
+     * @param alpha progress from the last towards the next tick, from 0 to 1.
      */
     @Override
-    public void render(MazeRunnerGame game, float stateTime) {
-        if ((iFrames > 5 && iFrames <= 16) || (iFrames > 25 && iFrames < 36) || (iFrames > 45 && iFrames < 56) || (iFrames > 65 && iFrames < 76)) {
+    public void draw(Batch batch, float alpha) {
+        float blinkTime = invincibilityTimer - BLINK_PERIOD / 4f;
+        if (blinkTime > 0 && blinkTime < 3.5f * BLINK_PERIOD && blinkTime % BLINK_PERIOD < BLINK_PERIOD / 2f) {
             return;
         }
 
-        game.getSpriteBatch().draw(
-                this.currentAnimation.getKeyFrame(stateTime, true),
-                this.gridX * Settings.SCALED_TILE_SIZE,
-                this.gridY * Settings.SCALED_TILE_SIZE,
-                Settings.SCALED_TILE_SIZE * 2f,
-                Settings.SCALED_TILE_SIZE * 2f
-        );
+        super.draw(batch, alpha);
     }
 
     /**
      * Updates the player's state(checks for health/shields/debuffs).
-     * @param delta Change in time(in seconds) since last update.
+     * @param delta time in seconds since the last tick.
      */
     @Override
-    public void update(float delta) {
-        super.update(delta);
-        if (this.iFrames > 0) {iFrames--;}
+    public void tick(float delta) {
+        super.tick(delta);
+        if (invincibilityTimer > 0) {invincibilityTimer -= delta;}
 
         if(!isAlive()){
             game.setScreen(new DefeatScreen(game));
@@ -203,13 +201,13 @@ public class Player extends Actor{
      * Reduces the amount of points the player has.
      */
     public void loseLife() {
-        if (iFrames > 0) {
+        if (invincibilityTimer > 0) {
             return;
         }
         if (!temporaryShieldActive) {
             lives--;
             hurtSound.play();
-            iFrames = 90;
+            invincibilityTimer = INVINCIBILITY_TIME;
             addPoints(-50);
         }
     }
@@ -265,12 +263,14 @@ public class Player extends Actor{
     }
 
     /**
-     * Adds key to player's inventory
+     * Adds key to player's inventory and starts preloading the next level.
      */
     public void collectKey() {
         hasKey = true;
         keySound.play();
         addPoints(100);
+        notifyExit();
+        game.preloadLevel(game.getCurrentLevel() + 1);
     }
 
     /**
@@ -286,6 +286,16 @@ public class Player extends Actor{
      */
     public void removeKey() {
         hasKey = false;
+        notifyExit();
+    }
+
+    /**
+     * Lets the exit of the current level know that the key state changed.
+     */
+    private void notifyExit() {
+        if (world != null && world.getExit() != null) {
+            world.getExit().onKeyStateChanged();
+        }
     }
 
     /**
@@ -308,8 +318,10 @@ public class Player extends Actor{
     public void spawnPlayer(int x, int y, WorldGenerator world) {
         this.x = x;
         this.gridX = x;
+        this.prevGridX = x;
         this.y = y;
         this.gridY = y;
+        this.prevGridY = y;
         this.world = world;
     }
 
@@ -36,7 +36,6 @@ public class GameScreen implements Screen {
 
     private final OrthogonalTiledMapRenderer mapRenderer;
     private ActorController playerController;
-    private  List<ActorController> enemyController;
 
     private WorldGenerator worldGenerator;
     private List<StaticObject> staticObjects;
@@ -76,12 +75,8 @@ public class GameScreen implements Screen {
         dialogueOverlay = new DialogueOverlay(game, game.getSkin());
 
         playerController = new ActorController(player, this);
-        enemyController = new ArrayList<>();
-        for (Enemy enemy : enemies ) {
-            enemyController.add(new ActorController(enemy, this));
-        }
 
-        actorList.addAll(enemies);
+        // enemies are simulated by the world's EnemySystem and drawn through its DepthOrder
         actorList.add(player);
         actorList.add(boss);
 
@@ -154,6 +149,7 @@ public class GameScreen implements Screen {
      */
     @Override
     public void dispose() {
+        worldGenerator.getPathService().cancel();
         mapRenderer.dispose();
         hudScreen.dispose();
     }
@@ -199,10 +195,6 @@ public class GameScreen implements Screen {
         return playerController;
     }
 
-    public List<ActorController> getEnemyController() {
-        return enemyController;
-    }
-
     public WorldGenerator getWorldGenerator() {
         return worldGenerator;
     }
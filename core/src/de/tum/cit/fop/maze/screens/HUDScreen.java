@@ -5,6 +5,7 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -27,6 +28,8 @@ import de.tum.cit.fop.maze.utility.Settings;
  * {@link OrthographicCamera} handles the view for HUD elements
  * {@link BitmapFont} used for rendering text
  * {@link Texture} objects are used to render icons and HUD elements
+ * Regions and text layouts are created once, text is only laid out again when the shown value changes,
+ * so rendering the HUD doesn't allocate anything per frame.
  */
 public class HUDScreen implements Screen {
 
@@ -52,6 +55,16 @@ public class HUDScreen implements Screen {
 
     private float gameTimer;
 
+    private final GlyphLayout timerLayout = new GlyphLayout();
+    private final StringBuilder timerText = new StringBuilder();
+    private int shownSeconds = -1;
+
+    private final GlyphLayout keyLayout = new GlyphLayout();
+    private final StringBuilder keyText = new StringBuilder();
+    private int shownKeys = -1;
+
+    private final Vector3 exitScreenPos = new Vector3();
+
     /**
      * Constructor for HUDScreen.
      * Initializes all the attributes necessary.
@@ -64,18 +77,20 @@ public class HUDScreen implements Screen {
         this.font = game.getSkin().getFont("font");
 
 
-        objectsTexture = new Texture(Gdx.files.internal("Sprites/Provided/objects.png"));
+        objectsTexture = game.getAssets().getTexture("Sprites/Provided/objects.png");
+        heartTexture = new TextureRegion(objectsTexture, 4 * 16, 0, 16, 16);
+        emptyHeartTexture = new TextureRegion(objectsTexture, 8 * 16, 0, 16, 16);
 
         gameTimer = 0;
 
         hudCamera = new OrthographicCamera();
         hudCamera.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
-        arrow = new Texture(Gdx.files.internal("assets/Sprites/arrows/red-right arrow.png"));
+        arrow = game.getAssets().getTexture("assets/Sprites/arrows/red-right arrow.png");
 
-        shieldTexture = new Texture(Gdx.files.internal("assets/Sprites/single_shield.png"));
+        shieldTexture = game.getAssets().getTexture("assets/Sprites/single_shield.png");
 
-        keyTexture = new Texture(Gdx.files.internal("assets/Sprites/single_key.png"));
+        keyTexture = game.getAssets().getTexture("assets/Sprites/single_key.png");
     }
 
     /**
@@ -129,9 +144,6 @@ public class HUDScreen implements Screen {
         float startX = 20f;
         float startY = Gdx.graphics.getHeight() - renderSize - 20f;
 
-        heartTexture = new TextureRegion(objectsTexture, 4 * 16, 0, (int) heartSize, (int) heartSize);
-        emptyHeartTexture = new TextureRegion(objectsTexture, 8 * 16, 0, (int) heartSize, (int) heartSize);
-
         for (int i = 0; i < maxLives; i++) {
             TextureRegion heart = (i < lives) ? heartTexture : emptyHeartTexture;
             game.getSpriteBatch().draw(heart, startX + i * (renderSize + spacing), startY, renderSize, renderSize);
@@ -140,11 +152,19 @@ public class HUDScreen implements Screen {
 
     /**
      * Renders the game timer in the top middle of the screen.
+     * The text is only laid out again when the shown second changes.
      */
     private void renderTimer() {
-        String time = timeFormat(gameTimer);
+        int seconds = (int) gameTimer;
+        if (seconds != shownSeconds) {
+            shownSeconds = seconds;
+            timerText.setLength(0);
+            timerText.append("Time: ");
+            appendTimeFormat(timerText, seconds);
+            timerLayout.setText(font, timerText);
+        }
         float timerX = (Gdx.graphics.getWidth() - font.getRegion().getRegionWidth())/2;
-        font.draw(game.getSpriteBatch(),"Time: " + time, timerX, Gdx.graphics.getHeight()-20);
+        font.draw(game.getSpriteBatch(), timerLayout, timerX, Gdx.graphics.getHeight()-20);
     }
 
     /**
@@ -158,7 +178,7 @@ public class HUDScreen implements Screen {
         float exitWorldX = exit.getGridX() * Settings.SCALED_TILE_SIZE;
         float exitWorldY = exit.getGridY() * Settings.SCALED_TILE_SIZE;
 
-        Vector3 exitScreenPos = game.getGameScreen().getCameraHelper().getCamera().project(new Vector3(exitWorldX, exitWorldY, 0));
+        game.getGameScreen().getCameraHelper().getCamera().project(exitScreenPos.set(exitWorldX, exitWorldY, 0));
 
         float arrowWidth = 64;
         float arrowHeight = 32;
@@ -193,6 +213,7 @@ public class HUDScreen implements Screen {
 
     /**
      * Renders the key tracker under the health bar.
+     * The counter text is only laid out again when the number of keys changes.
      */
     private void renderKeyTracker(){
 
@@ -201,20 +222,34 @@ public class HUDScreen implements Screen {
         float keyY = Gdx.graphics.getHeight()-100f;
 
         game.getSpriteBatch().draw(keyTexture, keyX, keyY, keySize, keySize);
-        String count = "x" + (player.hasKey() ? 1 : 0);
-        font.draw(game.getSpriteBatch(),count,keyX+keySize,keyY+keySize/2);
+        int keys = player.hasKey() ? 1 : 0;
+        if (keys != shownKeys) {
+            shownKeys = keys;
+            keyText.setLength(0);
+            keyText.append('x').append(keys);
+            keyLayout.setText(font, keyText);
+        }
+        font.draw(game.getSpriteBatch(), keyLayout, keyX+keySize, keyY+keySize/2);
     }
 
     /**
-     * Formats the game timer to the hh:mm:ss format.
-     * @param gameTimer current game time in seconds.
-     * @return a string with the formatted time.
+     * Appends the game timer in the hh:mm:ss format.
+     * @param text builder the time is appended to.
+     * @param gameSeconds current game time in whole seconds.
      */
-    private String timeFormat(float gameTimer) {
-        int hours = (int) (gameTimer / 3600);
-        int minutes = (int) ((gameTimer % 3600)/60);
-        int seconds = (int) (gameTimer % 60);
-        return String.format("%02d:%02d:%02d", hours, minutes, seconds);
+    private static void appendTimeFormat(StringBuilder text, int gameSeconds) {
+        appendTwoDigits(text, gameSeconds / 3600);
+        text.append(':');
+        appendTwoDigits(text, (gameSeconds % 3600) / 60);
+        text.append(':');
+        appendTwoDigits(text, gameSeconds % 60);
+    }
+
+    private static void appendTwoDigits(StringBuilder text, int value) {
+        if (value < 10) {
+            text.append('0');
+        }
+        text.append(value);
     }
 
     /**
@@ -249,11 +284,10 @@ public class HUDScreen implements Screen {
 
     /**
      * disposes resources used by the screen.
+     * The textures belong to the level scope of the game's asset cache and are released with it.
      */
     @Override
     public void dispose() {
-        objectsTexture.dispose();
-        arrow.dispose();
-        shieldTexture.dispose();
+        stage.dispose();
     }
 }
@@ -198,12 +198,7 @@ public class PauseScreen implements Screen {
      * Restarts the current level by disposing existing resources and recreating them.
      */
     public void restartGame() {
-        if(game.getGameScreen() != null) {
-            game.getGameScreen().dispose();
-        }
-
-        GameScreen gameScreen = (new GameScreen(game));
-        game.setGameScreen(gameScreen);
+        GameScreen gameScreen = game.reloadGameScreen();
         game.setScreen(gameScreen);
         Gdx.input.setInputProcessor(gameScreen.getPlayerController());
     }
@@ -1,29 +1,38 @@
 package de.tum.cit.fop.maze.staticObjects;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import de.tum.cit.fop.maze.MazeRunnerGame;
+import de.tum.cit.fop.maze.utility.Assets;
 import de.tum.cit.fop.maze.screens.CutsceneScreen;
 
 public class CutsceneTile extends StaticObject {
 
+    private static final String SOUND_PATH = "Sounds/SoundFX/flashbang.mp3";
+
     private boolean triggered = false;
     private Music flashbang;
 
+    /**
+     * Queues the assets of a cutscene tile for loading in the background.
+     * @param assets the game's asset cache.
+     */
+    public static void preloadAssets(Assets assets) {
+        assets.preload(SOUND_PATH, Music.class);
+    }
+
     public CutsceneTile(MazeRunnerGame game, int x, int y, int width, int height) {
         super(game, x, y, width, height, "CutsceneTile");
         isPassable = true;
-        flashbang = Gdx.audio.newMusic(Gdx.files.internal("Sounds/SoundFX/flashbang.mp3"));
+        flashbang = game.getAssets().getMusic(SOUND_PATH);
     }
 
     @Override
-    public void update(float delta) {
-        interact();
-    }
+    public void draw(Batch batch, float alpha) {}
 
     @Override
     protected void interact() {
-        if (!triggered && isPlayerTouching()) {
+        if (!triggered) {
             triggered = true;
             flashbang.play();
             game.setScreen(new CutsceneScreen(game, 2));
@@ -1,5 +1,6 @@
 package de.tum.cit.fop.maze.staticObjects;
 
+import com.badlogic.gdx.graphics.g2d.Batch;
 import de.tum.cit.fop.maze.MazeRunnerGame;
 
 /**
@@ -23,21 +24,21 @@ public class DialogueTile extends StaticObject {
     }
 
     /**
-     * Updates state of the Dialogue tile.
-     * @param delta change in time(in seconds) since last frame.
+     * Draws the Dialogue tile.
+     * Nothing to do, the tile is invisible and the dialogue is started when the player enters it.
+     * @param batch batch used for drawing.
+     * @param alpha progress towards the next tick.
      */
     @Override
-    public void update(float delta) {
-        interact();
-    }
+    public void draw(Batch batch, float alpha) {}
 
     /**
      * Responsible for interaction with the player.
-     * Starts the dialogue if the player is standing on the tile and dialogue hasn't been triggered yet.
+     * Starts the dialogue when the player steps on the tile and dialogue hasn't been triggered yet.
      */
     @Override
     protected void interact() {
-        if (isPlayerTouching() && !dialogueTriggered) {
+        if (!dialogueTriggered) {
             dialogueTriggered = true;
             game.getGameScreen().getDialogueOverlay().startDialogue();
         }
@@ -1,11 +1,12 @@
 package de.tum.cit.fop.maze.staticObjects;
 
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 import de.tum.cit.fop.maze.MazeRunnerGame;
+import de.tum.cit.fop.maze.utility.Assets;
 import de.tum.cit.fop.maze.utility.Settings;
 
 /**
@@ -14,8 +15,19 @@ import de.tum.cit.fop.maze.utility.Settings;
  */
 public class Entry extends StaticObject {
 
+    private static final String SHEET_PATH = "Sprites/Fog/577.png";
+
     private final Animation<TextureRegion> animation;
     private boolean animationPlayed = false;
+    private float stateTime;
+
+    /**
+     * Queues the assets of an entry for loading in the background.
+     * @param assets the game's asset cache.
+     */
+    public static void preloadAssets(Assets assets) {
+        assets.preloadRegion(SHEET_PATH);
+    }
 
     /**
      * Constructor for Entry object.
@@ -28,7 +40,7 @@ public class Entry extends StaticObject {
      */
     public Entry(MazeRunnerGame game, int x, int y, int width, int height) {
         super(game, x, y, width, height, "Entry");
-        Texture keyTexture = new Texture("Sprites/Fog/577.png");
+        TextureRegion keyTexture = game.getAssets().getRegion(SHEET_PATH);
 
         int frameWidth = 64;
         int frameHeight = 64;
@@ -59,13 +71,28 @@ public class Entry extends StaticObject {
     }
 
     /**
-     * updates the state of the entry and checks if entry animation is played.
-     * @param delta change in time(in seconds) since last frame.
+     * Advances the entry animation and checks if it has been played.
+     * @param delta time in seconds since the last tick.
      */
     @Override
-    public void update(float delta) {
+    public void tick(float delta) {
+        if (!animationPlayed) {
+            stateTime += delta;
+            if (animation.isAnimationFinished(stateTime)) {
+                animationPlayed = true;
+            }
+        }
+    }
+
+    /**
+     * Draws the entry animation until it has been played once.
+     * @param batch batch used for drawing.
+     * @param alpha progress towards the next tick, unused since the entry doesn't move.
+     */
+    @Override
+    public void draw(Batch batch, float alpha) {
         if (!isAnimationPlayed()) {
-            TextureRegion frame = animation.getKeyFrame(delta, false);
+            TextureRegion frame = animation.getKeyFrame(stateTime, false);
             batch.draw(
                     frame,
                     (gridX - 1) * Settings.SCALED_TILE_SIZE,
@@ -73,9 +100,6 @@ public class Entry extends StaticObject {
                     Settings.SCALED_TILE_SIZE * 3f,
                     Settings.SCALED_TILE_SIZE * 3f
             );
-            if (animation.isAnimationFinished(delta)) {
-                animationPlayed = true;
-            }
         }
     }
 
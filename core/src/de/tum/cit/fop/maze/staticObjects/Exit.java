@@ -2,12 +2,12 @@ package de.tum.cit.fop.maze.staticObjects;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 import de.tum.cit.fop.maze.MazeRunnerGame;
+import de.tum.cit.fop.maze.utility.Assets;
 import de.tum.cit.fop.maze.utility.Settings;
 
 /**
@@ -16,13 +16,31 @@ import de.tum.cit.fop.maze.utility.Settings;
  * Deals with player interaction with the exit.
  */
 public class Exit extends StaticObject {
+
+    private static final String SHEET_PATH = "assets/Sprites/teleporter1-Sheet.png";
+    private static final String SOUND_PATH = "Sounds/SoundFX/teleportSound.mp3";
+
+    /**
+     * Duration of a teleport frame in seconds, the 64 frames take about half a second.
+     */
+    private static final float TELEPORT_FRAME_DURATION = 0.008f;
+
     private final Animation<TextureRegion> animation;
     private boolean isPlayingAnimation = false;
     private boolean hasPlayedAnimation = false;
     private float stateTime = 0f;
-    private final Texture keyTexture;
+    private final TextureRegion keyTexture;
     private Music teleportSound;
 
+    /**
+     * Queues the assets of an exit for loading in the background.
+     * @param assets the game's asset cache.
+     */
+    public static void preloadAssets(Assets assets) {
+        assets.preloadRegion(SHEET_PATH);
+        assets.preload(SOUND_PATH, Music.class);
+    }
+
     /**
      * Constructor for an Exit object.
      * @param game main game instance.
@@ -33,8 +51,8 @@ public class Exit extends StaticObject {
      */
     public Exit(MazeRunnerGame game, int x, int y, int width, int height) {
         super(game, x, y, width, height, "Exit");
-        keyTexture = new Texture("assets/Sprites/teleporter1-Sheet.png");
-        this.teleportSound = Gdx.audio.newMusic(Gdx.files.internal("Sounds/SoundFX/teleportSound.mp3"));
+        keyTexture = game.getAssets().getRegion(SHEET_PATH);
+        this.teleportSound = game.getAssets().getMusic(SOUND_PATH);
 
         int frameWidth = 144;
         int frameHeight = 144;
@@ -57,7 +75,7 @@ public class Exit extends StaticObject {
 
         isPassable = true;
 
-        animation = new Animation<>(30f, keyFrames, Animation.PlayMode.NORMAL);
+        animation = new Animation<>(TELEPORT_FRAME_DURATION, keyFrames, Animation.PlayMode.NORMAL);
     }
 
     /**
@@ -67,13 +85,20 @@ public class Exit extends StaticObject {
     @Override
     public boolean isPassable() { return player != null && player.hasKey(); }
 
+    /**
+     * Called when the player collects or loses the key, which unlocks or locks the exit.
+     */
+    public void onKeyStateChanged() {
+        notifyPassabilityChanged();
+    }
+
     /**
      * Handles player interaction with the exit.
-     * Plays animation and teleports player if player is touching the exit.
+     * Plays animation and teleports player when the player steps onto the exit.
      */
     @Override
     public void interact() {
-        if (isPlayerTouching() && !isPlayingAnimation) {
+        if (!isPlayingAnimation && !hasPlayedAnimation) {
             isPlayingAnimation = true;
             teleportSound.play();
             player.addLevelKeyToList(game.getCurrentLevel());
@@ -84,18 +109,16 @@ public class Exit extends StaticObject {
 
     /**
      * Updates state of the exit.
-     * Handles teleport animation.
-     * @param delta Change in time(in seconds) since last frame.
+     * Handles teleport animation and switches to the next level once it is finished.
+     * @param delta time in seconds since the last tick.
      */
-    public void update(float delta) {
-
-        draw(batch);
-
+    @Override
+    public void tick(float delta) {
         if (hasPlayedAnimation) {
             return;
         }
         if (isPlayingAnimation) {
-            stateTime += 2*delta;
+            stateTime += delta;
 
             if (animation.isAnimationFinished(stateTime)) {
                 isPlayingAnimation = false;
@@ -103,16 +126,16 @@ public class Exit extends StaticObject {
                 player.removeKey();
                 Gdx.app.postRunnable(() -> game.setLevel(game.getCurrentLevel() + 1));
             }
-        } else {
-            interact();
         }
     }
 
     /**
      * Draws the exit on the screen.
      * @param batch batch used for drawing the exit.
+     * @param alpha progress towards the next tick, unused since the exit doesn't move.
      */
-    public void draw(Batch batch) {
+    @Override
+    public void draw(Batch batch, float alpha) {
         TextureRegion frame = isPlayingAnimation
                 ? animation.getKeyFrame(stateTime)
                 : animation.getKeyFrames()[0];
@@ -122,11 +145,4 @@ public class Exit extends StaticObject {
                 getWidth()* Settings.SCALED_TILE_SIZE ,
                 getHeight()* Settings.SCALED_TILE_SIZE *1.3f);
     }
-
-    /**
-     * Disposes resources used by the exit class.
-     */
-    public void dispose() {
-        keyTexture.dispose();
-    }
 }
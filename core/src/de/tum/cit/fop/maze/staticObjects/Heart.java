@@ -1,12 +1,12 @@
 package de.tum.cit.fop.maze.staticObjects;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 import de.tum.cit.fop.maze.MazeRunnerGame;
+import de.tum.cit.fop.maze.utility.Assets;
 import de.tum.cit.fop.maze.utility.Settings;
 
 /**
@@ -15,10 +15,23 @@ import de.tum.cit.fop.maze.utility.Settings;
  */
 public class Heart extends StaticObject {
 
+    private static final String SOUND_PATH = "Sounds/SoundFX/heartSound.mp3";
+    private static final String SHEET_PATH = "Sprites/Provided/objects.png";
+
     private Music heartSound;
 
     private final Animation<TextureRegion> animation;
     private boolean collected;
+    private float stateTime;
+
+    /**
+     * Queues the assets of a heart for loading in the background.
+     * @param assets the game's asset cache.
+     */
+    public static void preloadAssets(Assets assets) {
+        assets.preload(SOUND_PATH, Music.class);
+        assets.preloadRegion(SHEET_PATH);
+    }
 
     /**
      * Constructor for the Heart object.
@@ -31,9 +44,9 @@ public class Heart extends StaticObject {
      */
     public Heart(MazeRunnerGame game, int x, int y, int width, int height) {
         super(game, x, y, width, height, "Heart");
-        this.heartSound = Gdx.audio.newMusic(Gdx.files.internal("Sounds/SoundFX/heartSound.mp3"));
+        this.heartSound = game.getAssets().getMusic(SOUND_PATH);
 
-        Texture heartTexture = new Texture("Sprites/Provided/objects.png");
+        TextureRegion heartTexture = game.getAssets().getRegion(SHEET_PATH);
 
         int frameWidth = 16;
         int frameHeight = 16;
@@ -68,13 +81,12 @@ public class Heart extends StaticObject {
 
     /**
      * Responsible for interactions with the heart.
-     * Player collects the heart if:
-     * -player is touching the heart
+     * Player collects the heart when stepping on it if:
      * -heart isnt collected yet
      * -player health is not full
      */
     protected void interact() {
-        if (isPlayerTouching() && !collected && player.getLives() < player.getMaxLives()) {
+        if (!collected && player.getLives() < player.getMaxLives()) {
             heartSound.play();
             player.addPoints(10);
             player.gainLife();
@@ -83,17 +95,24 @@ public class Heart extends StaticObject {
     }
 
     /**
-     * Updates the state of the heart.
-     * checks interaction
-     * handles animation and rendering
-     * @param delta change in time (in seconds) since last frame.
+     * Advances the animation of the heart.
+     * @param delta time in seconds since the last tick.
+     */
+    @Override
+    public void tick(float delta) {
+        stateTime += delta;
+    }
+
+    /**
+     * Draws the heart if it hasn't been collected yet.
+     * @param batch batch used for drawing.
+     * @param alpha progress towards the next tick, unused since the heart doesn't move.
      */
     @Override
-    public void update(float delta) {
+    public void draw(Batch batch, float alpha) {
         if (!collected) {
-            interact();
             batch.draw(
-                    animation.getKeyFrame(delta, true),
+                    animation.getKeyFrame(stateTime, true),
                     gridX * Settings.SCALED_TILE_SIZE,
                     gridY * Settings.SCALED_TILE_SIZE,
                     Settings.SCALED_TILE_SIZE,
@@ -1,10 +1,11 @@
 package de.tum.cit.fop.maze.staticObjects;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 import de.tum.cit.fop.maze.MazeRunnerGame;
+import de.tum.cit.fop.maze.utility.Assets;
 import de.tum.cit.fop.maze.utility.Settings;
 
 /**
@@ -13,7 +14,18 @@ import de.tum.cit.fop.maze.utility.Settings;
  */
 public class Key extends StaticObject {
 
+    private static final String SHEET_PATH = "Sprites/key_32x32_24f.png";
+
     private final Animation<TextureRegion> animation;
+    private float stateTime;
+
+    /**
+     * Queues the assets of a key for loading in the background.
+     * @param assets the game's asset cache.
+     */
+    public static void preloadAssets(Assets assets) {
+        assets.preloadRegion(SHEET_PATH);
+    }
 
     /**
      * Contructor for Key object.
@@ -27,7 +39,7 @@ public class Key extends StaticObject {
     public Key(MazeRunnerGame game, int x, int y, int width, int height) {
         super(game, x, y, width, height, "Key");
 
-        Texture keyTexture = new Texture("Sprites/key_32x32_24f.png");
+        TextureRegion keyTexture = game.getAssets().getRegion(SHEET_PATH);
 
         int frameWidth = 32;
         int frameHeight = 32;
@@ -53,27 +65,42 @@ public class Key extends StaticObject {
 
     /**
      * Handles interaction with the key.
-     * If player touches the key, it is collected.
+     * If player steps on the key after the boss has been defeated, it is collected.
      */
     protected void interact() {
-        if (isPlayerTouching()) {
+        if (!player.hasKey() && isAvailable()) {
             player.collectKey();
         }
     }
 
     /**
-     * Updates the state of the key.
-     * Handles interaction and rendering.
+     * Checks if the key can be picked up.
+     * @return true if there is no boss or the boss has been defeated, false if not.
+     */
+    private boolean isAvailable() {
+        return world == null || world.getBoss() == null || !world.getBoss().isAlive();
+    }
+
+    /**
+     * Advances the animation of the key.
+     * @param delta time in seconds since the last tick.
+     */
+    @Override
+    public void tick(float delta) {
+        stateTime += delta;
+    }
+
+    /**
+     * Draws the key.
      * Key is only rendered if player hasn't collected it.
-     * @param delta change in time(in seconds) since last frame.
+     * @param batch batch used for drawing.
+     * @param alpha progress towards the next tick, unused since the key doesn't move.
      */
     @Override
-    public void update(float delta) {
+    public void draw(Batch batch, float alpha) {
         if (!player.hasKey()) {
-            interact();
-
             batch.draw(
-                    animation.getKeyFrame(delta, true),
+                    animation.getKeyFrame(stateTime, true),
                     gridX * Settings.SCALED_TILE_SIZE,
                     gridY * Settings.SCALED_TILE_SIZE,
                     Settings.SCALED_TILE_SIZE,
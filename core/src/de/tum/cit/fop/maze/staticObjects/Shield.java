@@ -1,12 +1,12 @@
 package de.tum.cit.fop.maze.staticObjects;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 import de.tum.cit.fop.maze.MazeRunnerGame;
+import de.tum.cit.fop.maze.utility.Assets;
 import de.tum.cit.fop.maze.utility.Settings;
 
 /**
@@ -14,10 +14,24 @@ import de.tum.cit.fop.maze.utility.Settings;
  * Handles the animation and interaction.
  */
 public class Shield extends StaticObject {
+
+    private static final String SOUND_PATH = "Sounds/SoundFX/shieldSound.mp3";
+    private static final String SHEET_PATH = "Sprites/SHIELD.png";
+
     private final Music shieldSound;
 
     private final Animation<TextureRegion> animation;
     private boolean collected;
+    private float stateTime;
+
+    /**
+     * Queues the assets of a shield for loading in the background.
+     * @param assets the game's asset cache.
+     */
+    public static void preloadAssets(Assets assets) {
+        assets.preload(SOUND_PATH, Music.class);
+        assets.preloadRegion(SHEET_PATH);
+    }
 
     /**
      * Constructor for Shield object.
@@ -30,9 +44,9 @@ public class Shield extends StaticObject {
      */
     public Shield(MazeRunnerGame game, int x, int y, int width, int height) {
         super(game, x, y, width, height, "Shield");
-        this.shieldSound = Gdx.audio.newMusic(Gdx.files.internal("Sounds/SoundFX/shieldSound.mp3"));
+        this.shieldSound = game.getAssets().getMusic(SOUND_PATH);
 
-        Texture heartTexture = new Texture("Sprites/SHIELD.png");
+        TextureRegion heartTexture = game.getAssets().getRegion(SHEET_PATH);
 
         int frameWidth = 32;
         int frameHeight = 32;
@@ -67,17 +81,25 @@ public class Shield extends StaticObject {
     }
 
     /**
-     * Updates the state of the shield, including interaction and rendering.
-     * The shield is only rendered and interactive if it hasn't been collected yet.
+     * Advances the animation of the shield.
+     * @param delta time in seconds since the last tick.
+     */
+    @Override
+    public void tick(float delta) {
+        stateTime += delta;
+    }
+
+    /**
+     * Draws the shield if it hasn't been collected yet.
      *
-     * @param delta time in seconds since the last frame.
+     * @param batch batch used for drawing.
+     * @param alpha progress towards the next tick, unused since the shield doesn't move.
      */
     @Override
-    public void update(float delta) {
+    public void draw(Batch batch, float alpha) {
         if (!collected) {
-            interact();
             batch.draw(
-                    animation.getKeyFrame(delta, true),
+                    animation.getKeyFrame(stateTime, true),
                     gridX * Settings.SCALED_TILE_SIZE,
                     gridY * Settings.SCALED_TILE_SIZE,
                     Settings.SCALED_TILE_SIZE,
@@ -88,11 +110,11 @@ public class Shield extends StaticObject {
 
     /**
      * Handles interaction with the shield.
-     * Shield is collected and activated when player is touching the shield and hasn't been collected yet.
+     * Shield is collected and activated when player steps on the shield and hasn't been collected yet.
      */
     @Override
     protected void interact() {
-        if (isPlayerTouching() && !collected) {
+        if (!collected) {
             shieldSound.play();
             player.addPoints(10);
             player.activateTemporaryShield();
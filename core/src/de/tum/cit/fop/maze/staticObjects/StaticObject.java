@@ -2,15 +2,18 @@ package de.tum.cit.fop.maze.staticObjects;
 
 import com.badlogic.gdx.graphics.g2d.Batch;
 import de.tum.cit.fop.maze.MazeRunnerGame;
+import de.tum.cit.fop.maze.actors.Actor;
 import de.tum.cit.fop.maze.actors.Player;
+import de.tum.cit.fop.maze.utility.WorldGenerator;
 
 /**
  * Abstract class for all static objects in the game.
  * Has common properties and methods for objects that don't move but can interact with the player.
+ * Interactions are event driven: the world calls {@link #onTileEnter(Actor)} and {@link #onTileExit(Actor)}
+ * once whenever an actor moves onto or off a tile covered by the object.
  */
 public abstract class StaticObject {
 
-    protected final Batch batch;
     protected final MazeRunnerGame game;
     protected final int gridX, gridY, width, height;
     protected final String objectType;
@@ -18,6 +21,9 @@ public abstract class StaticObject {
     protected boolean isPassable;
 
     protected Player player;
+    protected WorldGenerator world;
+
+    private int drawOrder;
 
     /**
      * Constructor for StaticObject.
@@ -36,10 +42,24 @@ public abstract class StaticObject {
         this.width = width;
         this.height = height;
         this.objectType = objectType;
-        this.batch = game.getSpriteBatch();
         this.player = game.player;
     }
 
+    /**
+     * @return position of the object in the world's object list, objects are drawn in ascending order.
+     */
+    public int getDrawOrder() {
+        return drawOrder;
+    }
+
+    /**
+     * Sets the position in which the object is drawn, assigned by the world when the object is added.
+     * @param drawOrder position in the world's object list.
+     */
+    public void setDrawOrder(int drawOrder) {
+        this.drawOrder = drawOrder;
+    }
+
     public int getGridX() {
         return gridX;
     }
@@ -57,21 +77,66 @@ public abstract class StaticObject {
     }
 
     /**
-     * Determines if the player is touching this object.
-     * @return true if player is touching the object, false if not.
+     * Sets the world this object belongs to.
+     * @param world world generator instance of the level.
      */
-    protected boolean isPlayerTouching() {
-        return(player.getX() >= gridX) &&
-                (player.getX() < gridX + width) &&
-                (player.getY() >= gridY) &&
-                (player.getY() < gridY + height);
+    public void setWorld(WorldGenerator world) {
+        this.world = world;
     }
 
     /**
-     * Updates the state of the object.
-     * @param delta time in seconds since the last frame.
+     * Announces to the world that the passability of this object changed,
+     * so the tiles it covers are updated.
+     */
+    protected void notifyPassabilityChanged() {
+        if (world != null) {
+            world.updatePassability(this);
+        }
+    }
+
+    /**
+     * Determines if a tile is covered by this object.
+     * @param x x-coordinate of the tile.
+     * @param y y-coordinate of the tile.
+     * @return true if the tile lies inside the object, false if not.
+     */
+    public boolean covers(int x, int y) {
+        return (x >= gridX) &&
+                (x < gridX + width) &&
+                (y >= gridY) &&
+                (y < gridY + height);
+    }
+
+    /**
+     * Called once when an actor finishes moving onto a tile covered by this object.
+     * By default the player interacts with the object.
+     * @param actor the actor that entered the tile.
+     */
+    public void onTileEnter(Actor actor) {
+        if (actor == player) {
+            interact();
+        }
+    }
+
+    /**
+     * Called once when an actor starts moving off the tiles covered by this object.
+     * @param actor the actor that left the tile.
+     */
+    public void onTileExit(Actor actor) {}
+
+    /**
+     * Advances the object's own logic, e.g. its animation.
+     * Called every tick for all objects of the level, whether they are visible or not.
+     * @param delta time in seconds since the last tick.
+     */
+    public void tick(float delta) {}
+
+    /**
+     * Draws the object. Only called for objects on screen, between batch.begin() and batch.end().
+     * @param batch batch used for drawing.
+     * @param alpha progress from the last towards the next tick, from 0 to 1.
      */
-    public abstract void update(float delta);
+    public abstract void draw(Batch batch, float alpha);
 
     /**
      * Checks if the object is passable.
@@ -82,6 +147,7 @@ public abstract class StaticObject {
     /**
      * Handles interaction with the object.
      * method implemented by subclasses to define interaction with player.
+     * Called when the player enters a tile covered by the object.
      */
     protected abstract void interact();
 }
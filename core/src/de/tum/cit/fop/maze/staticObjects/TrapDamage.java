@@ -1,11 +1,11 @@
 package de.tum.cit.fop.maze.staticObjects;
 
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import de.tum.cit.fop.maze.MazeRunnerGame;
+import de.tum.cit.fop.maze.utility.Assets;
 import de.tum.cit.fop.maze.utility.Settings;
 
 /**
@@ -14,11 +14,23 @@ import de.tum.cit.fop.maze.utility.Settings;
  */
 public class TrapDamage extends StaticObject {
 
+    private static final String SOUND_PATH = "Sounds/SoundFX/trapDamageSound.mp3";
+    private static final String SHEET_PATH = "assets/Sprites/Pixel Crawler - FREE - 1.8/Environment/Dungeon Prison/Assets/Tiles32.png";
+
     private final TextureRegion inactiveFrame, activeFrame;
     private TextureRegion currentFrame;
     private boolean activated;
     private Music trapDamageSound;
 
+    /**
+     * Queues the assets of a damage trap for loading in the background.
+     * @param assets the game's asset cache.
+     */
+    public static void preloadAssets(Assets assets) {
+        assets.preload(SOUND_PATH, Music.class);
+        assets.preloadRegion(SHEET_PATH);
+    }
+
     /**
      * Constructor for TrapDamage object.
      *
@@ -30,10 +42,10 @@ public class TrapDamage extends StaticObject {
      */
     public TrapDamage(MazeRunnerGame game, int x, int y, int width, int height) {
         super(game, x, y, width, height, "TrapDamage");
-        this.trapDamageSound = Gdx.audio.newMusic(Gdx.files.internal("Sounds/SoundFX/trapDamageSound.mp3"));
+        this.trapDamageSound = game.getAssets().getMusic(SOUND_PATH);
 
 
-        Texture trapTexture = new Texture("assets/Sprites/Pixel Crawler - FREE - 1.8/Environment/Dungeon Prison/Assets/Tiles32.png");
+        TextureRegion trapTexture = game.getAssets().getRegion(SHEET_PATH);
 
         int frameWidth = 32;
         int frameHeight = 32;
@@ -48,15 +60,13 @@ public class TrapDamage extends StaticObject {
     }
 
     /**
-     * Updates the state of the trap including interaction and rendering.
+     * Draws the trap in its current state.
      *
-     * @param delta time in seconds since the last frame.
+     * @param batch batch used for drawing.
+     * @param alpha progress towards the next tick, unused since the trap doesn't move.
      */
     @Override
-    public void update(float delta) {
-
-        interact();
-
+    public void draw(Batch batch, float alpha) {
         batch.draw(
                 currentFrame,
                 gridX * Settings.SCALED_TILE_SIZE,
@@ -68,18 +78,16 @@ public class TrapDamage extends StaticObject {
 
     /**
      * Handles interaction with the trap.
-     * activates (if not already activated) and damages the player ff the player touches the trap.
+     * activates (if not already activated) and damages the player once each time the player steps on the trap.
      */
     @Override
     protected void interact() {
-        if (isPlayerTouching()) {
-            trapDamageSound.play();
-            if (!activated) {
-                activated = true;
-                currentFrame = activeFrame;
-            }
-            player.loseLife();
+        trapDamageSound.play();
+        if (!activated) {
+            activated = true;
+            currentFrame = activeFrame;
         }
+        player.loseLife();
     }
 }
 
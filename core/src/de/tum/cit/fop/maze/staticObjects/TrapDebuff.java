@@ -1,10 +1,10 @@
 package de.tum.cit.fop.maze.staticObjects;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import de.tum.cit.fop.maze.MazeRunnerGame;
+import de.tum.cit.fop.maze.utility.Assets;
 import de.tum.cit.fop.maze.utility.Settings;
 
 /**
@@ -13,9 +13,21 @@ import de.tum.cit.fop.maze.utility.Settings;
  */
 public class TrapDebuff extends StaticObject {
 
+    private static final String SOUND_PATH = "Sounds/SoundFX/trapDebuffSound.mp3";
+    private static final String SHEET_PATH = "assets/Sprites/Provided/basictiles.png";
+
     private TextureRegion currentFrame;
     private Music trapDebuffSound;
 
+    /**
+     * Queues the assets of a debuff trap for loading in the background.
+     * @param assets the game's asset cache.
+     */
+    public static void preloadAssets(Assets assets) {
+        assets.preload(SOUND_PATH, Music.class);
+        assets.preloadRegion(SHEET_PATH);
+    }
+
     /**
      * Constructor TrapDebuff object.
      *
@@ -28,9 +40,9 @@ public class TrapDebuff extends StaticObject {
     public TrapDebuff(MazeRunnerGame game, int x, int y, int width, int height) {
         super(game, x, y, width, height, "TrapDebuff");
 
-        this.trapDebuffSound = Gdx.audio.newMusic(Gdx.files.internal("Sounds/SoundFX/trapDebuffSound.mp3"));
+        this.trapDebuffSound = game.getAssets().getMusic(SOUND_PATH);
 
-        Texture trapTexture = new Texture("assets/Sprites/Provided/basictiles.png");
+        TextureRegion trapTexture = game.getAssets().getRegion(SHEET_PATH);
 
         int frameWidth = 16;
         int frameHeight = 16;
@@ -41,14 +53,13 @@ public class TrapDebuff extends StaticObject {
     }
 
     /**
-     * Updates the state of the trap, including interaction and rendering.
+     * Draws the trap in its current state.
      *
-     * @param delta time in seconds since the last frame.
+     * @param batch batch used for drawing.
+     * @param alpha progress towards the next tick, unused since the trap doesn't move.
      */
     @Override
-    public void update(float delta) {
-        interact();
-
+    public void draw(Batch batch, float alpha) {
         batch.draw(
                 currentFrame,
                 gridX * Settings.SCALED_TILE_SIZE,
@@ -60,14 +71,11 @@ public class TrapDebuff extends StaticObject {
 
     /**
      * Handles interaction with the trap.
-     * If the player touches the trap, it applies a debuff to the player and plays a sound.
+     * When the player steps on the trap, it applies a debuff to the player and plays a sound.
      */
     @Override
     protected void interact() {
-        if (isPlayerTouching()) {
-            trapDebuffSound.play();
-            player.setDebuffed(true);
-
-        }
+        trapDebuffSound.play();
+        player.setDebuffed(true);
     }
 }
@@ -1,5 +1,6 @@
 package de.tum.cit.fop.maze.staticObjects;
 
+import com.badlogic.gdx.graphics.g2d.Batch;
 import de.tum.cit.fop.maze.MazeRunnerGame;
 
 /**
@@ -22,7 +23,7 @@ public class Wall extends StaticObject{
     }
 
     @Override
-    public void update(float delta) {}
+    public void draw(Batch batch, float alpha) {}
 
     @Override
     protected void interact() {}
@@ -0,0 +1,320 @@
+package de.tum.cit.fop.maze.utility;
+
+import java.util.Arrays;
+
+/**
+ * Reusable A* search over flat tile indices (index = y * width + x).
+ * All per-search state (g-scores, parents, the open heap) is kept in primitive arrays
+ * that are allocated once for a map size. Generation counters mark which entries
+ * belong to the current search, so nothing has to be cleared between searches and
+ * no objects are created while nodes are expanded.
+ * A search can either run to the end with {@link #search} or be started with {@link #begin}
+ * and advanced a limited number of node expansions at a time with {@link #step}.
+ */
+public class AStarSearch {
+
+    private static final int[] DX = {0, 0, 1, -1};
+    private static final int[] DY = {1, -1, 0, 0};
+
+    /**
+     * Result of {@link #step}: the search needs more expansions.
+     */
+    public static final int SEARCHING = 0;
+    /**
+     * Result of {@link #step}: a path was found.
+     */
+    public static final int FOUND = 1;
+    /**
+     * Result of {@link #step}: there is no path, or no search was started.
+     */
+    public static final int FAILED = 2;
+
+    private final int width;
+    private final int height;
+
+    private final int[] gScore;
+    private final int[] parent;
+    private final int[] visitedGeneration;
+    private final int[] closedGeneration;
+
+    private final int[] heap;
+    private final int[] heapPosition;
+    private final int[] heapCost;
+    private int heapSize;
+
+    private final int[] path;
+    private int pathLength;
+
+    private int generation;
+
+    // state of the running search
+    private int goal;
+    private int goalX;
+    private int goalY;
+    private PassabilityGrid passability;
+    private int status = FAILED;
+    private int stepExpansions;
+
+    /**
+     * Creates a search engine for a map of the given size.
+     *
+     * @param width width of the map in tiles.
+     * @param height height of the map in tiles.
+     */
+    public AStarSearch(int width, int height) {
+        this.width = width;
+        this.height = height;
+        int size = width * height;
+
+        gScore = new int[size];
+        parent = new int[size];
+        visitedGeneration = new int[size];
+        closedGeneration = new int[size];
+
+        heap = new int[size];
+        heapPosition = new int[size];
+        heapCost = new int[size];
+
+        path = new int[size];
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Searches the shortest path between two tiles.
+     * The result can be read with {@link #getPathLength()} and {@link #getPathIndex(int)}.
+     *
+     * @param start flat index of the start tile.
+     * @param goal flat index of the goal tile.
+     * @param passability passability grid of the world.
+     * @return true if a path was found, false otherwise.
+     */
+    public boolean search(int start, int goal, PassabilityGrid passability) {
+        begin(start, goal, passability);
+        return step(Integer.MAX_VALUE) == FOUND;
+    }
+
+    /**
+     * Starts a search between two tiles without expanding any node yet.
+     * Starting a new search abandons the one in progress.
+     *
+     * @param start flat index of the start tile.
+     * @param goal flat index of the goal tile.
+     * @param passability passability grid of the world, read on every step until the search ends.
+     */
+    public void begin(int start, int goal, PassabilityGrid passability) {
+        pathLength = 0;
+        if (start < 0 || start >= gScore.length || goal < 0 || goal >= gScore.length) {
+            this.passability = null;
+            status = FAILED;
+            return;
+        }
+
+        nextGeneration();
+        heapSize = 0;
+
+        this.goal = goal;
+        this.goalX = goal % width;
+        this.goalY = goal / width;
+        this.passability = passability;
+        status = SEARCHING;
+
+        visit(start, 0, -1);
+        push(start, heuristic(start % width, start / width, goalX, goalY));
+    }
+
+    /**
+     * Continues the search started with {@link #begin}.
+     *
+     * @param maxExpansions maximum number of nodes to expand in this call.
+     * @return {@link #SEARCHING} if the search isn't finished yet, {@link #FOUND} or {@link #FAILED} otherwise.
+     */
+    public int step(int maxExpansions) {
+        stepExpansions = 0;
+        if (status != SEARCHING) {
+            return status;
+        }
+        while (stepExpansions < maxExpansions) {
+            if (heapSize == 0) {
+                return finish(FAILED);
+            }
+            int current = pop();
+            stepExpansions++;
+
+            if (current == goal) {
+                reconstructPath(goal);
+                return finish(FOUND);
+            }
+
+            closedGeneration[current] = generation;
+
+            int currentX = current % width;
+            int currentY = current / width;
+            int nextG = gScore[current] + 1;
+
+            for (int i = 0; i < DX.length; i++) {
+                int neighborX = currentX + DX[i];
+                int neighborY = currentY + DY[i];
+
+                if (neighborX < 0 || neighborY < 0 || neighborX >= width || neighborY >= height) continue;
+
+                int neighbor = neighborY * width + neighborX;
+                if (!passability.isPassable(neighbor)) continue;
+                if (closedGeneration[neighbor] == generation) continue;
+
+                int f = nextG + heuristic(neighborX, neighborY, goalX, goalY);
+                if (visitedGeneration[neighbor] != generation) {
+                    visit(neighbor, nextG, current);
+                    push(neighbor, f);
+                } else if (nextG < gScore[neighbor]) {
+                    gScore[neighbor] = nextG;
+                    parent[neighbor] = current;
+                    decreaseCost(neighbor, f);
+                }
+            }
+        }
+        return SEARCHING;
+    }
+
+    private int finish(int result) {
+        status = result;
+        passability = null;
+        return result;
+    }
+
+    /**
+     * @return number of nodes expanded by the last call of {@link #step}.
+     */
+    public int getStepExpansions() {
+        return stepExpansions;
+    }
+
+    /**
+     * @return number of tiles in the last found path including start and goal, 0 if none was found.
+     */
+    public int getPathLength() {
+        return pathLength;
+    }
+
+    /**
+     * @param step position along the last found path, 0 being the start tile.
+     * @return flat index of the tile at that step.
+     */
+    public int getPathIndex(int step) {
+        return path[step];
+    }
+
+    /**
+     * Computes the heuristic cost using Manhattan distance.
+     */
+    private static int heuristic(int x, int y, int goalX, int goalY) {
+        return Math.abs(x - goalX) + Math.abs(y - goalY);
+    }
+
+    /**
+     * Starts a new search generation, resetting the stamps only when the counter wraps around.
+     */
+    private void nextGeneration() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(visitedGeneration, 0);
+            Arrays.fill(closedGeneration, 0);
+            generation = 1;
+        }
+    }
+
+    private void visit(int index, int g, int parentIndex) {
+        visitedGeneration[index] = generation;
+        gScore[index] = g;
+        parent[index] = parentIndex;
+    }
+
+    /**
+     * Writes the path ending at the goal into the path buffer, start first.
+     */
+    private void reconstructPath(int goal) {
+        int length = 0;
+        for (int node = goal; node != -1; node = parent[node]) {
+            length++;
+        }
+        pathLength = length;
+        for (int node = goal; node != -1; node = parent[node]) {
+            path[--length] = node;
+        }
+    }
+
+    /*
+     * Binary min-heap keyed by f = g + h. Ties prefer the node closer to the goal.
+     */
+
+    private boolean less(int a, int b) {
+        int costA = heapCost[a];
+        int costB = heapCost[b];
+        if (costA != costB) {
+            return costA < costB;
+        }
+        return gScore[a] > gScore[b];
+    }
+
+    private void push(int index, int cost) {
+        heapCost[index] = cost;
+        heap[heapSize] = index;
+        heapPosition[index] = heapSize;
+        heapSize++;
+        siftUp(heapSize - 1);
+    }
+
+    private int pop() {
+        int top = heap[0];
+        heapSize--;
+        if (heapSize > 0) {
+            heap[0] = heap[heapSize];
+            heapPosition[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void decreaseCost(int index, int cost) {
+        heapCost[index] = cost;
+        siftUp(heapPosition[index]);
+    }
+
+    private void siftUp(int position) {
+        int node = heap[position];
+        while (position > 0) {
+            int parentPosition = (position - 1) >> 1;
+            int parentNode = heap[parentPosition];
+            if (!less(node, parentNode)) break;
+            heap[position] = parentNode;
+            heapPosition[parentNode] = position;
+            position = parentPosition;
+        }
+        heap[position] = node;
+        heapPosition[node] = position;
+    }
+
+    private void siftDown(int position) {
+        int node = heap[position];
+        int half = heapSize >> 1;
+        while (position < half) {
+            int child = (position << 1) + 1;
+            int right = child + 1;
+            if (right < heapSize && less(heap[right], heap[child])) {
+                child = right;
+            }
+            if (!less(heap[child], node)) break;
+            heap[position] = heap[child];
+            heapPosition[heap[position]] = position;
+            position = child;
+        }
+        heap[position] = node;
+        heapPosition[node] = position;
+    }
+}
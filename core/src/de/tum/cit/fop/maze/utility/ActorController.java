@@ -3,12 +3,11 @@ package de.tum.cit.fop.maze.utility;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputAdapter;
 import de.tum.cit.fop.maze.actors.Actor;
+import de.tum.cit.fop.maze.actors.Boss;
 import de.tum.cit.fop.maze.actors.Enemy;
 import de.tum.cit.fop.maze.actors.Player;
 import de.tum.cit.fop.maze.screens.BattleScreen;
 import de.tum.cit.fop.maze.screens.GameScreen;
-import de.tum.cit.fop.maze.staticObjects.DialogueTile;
-import de.tum.cit.fop.maze.staticObjects.StaticObject;
 
 /**
  * Controls the movement and state of actors in the game.
@@ -71,7 +70,7 @@ public class ActorController extends InputAdapter {
             return false;
         }
 
-        if (!(actor instanceof Enemy)) {
+        if (actor instanceof Player) {
             switch (keycode) {
                 case Input.Keys.SHIFT_LEFT, Input.Keys.SHIFT_RIGHT -> isRunning = true;
                 case Input.Keys.W, Input.Keys.UP  -> {
@@ -134,10 +133,6 @@ public class ActorController extends InputAdapter {
      * Updates the state of the actor
      */
     private void updateState() {
-        if (actor instanceof Enemy) {
-            state = ActorState.WALKING;
-        }
-
         if (actor instanceof Player player) {
             if (player.isDebuffed()) {
                 isRunning = false;
@@ -170,20 +165,8 @@ public class ActorController extends InputAdapter {
         actor.updateAnimationTime(state);
 
         if (timeSinceLastMove >= moveDelay) {
-            if (actor instanceof Enemy enemy) {
-                ActorController.Direction newDirection = enemy.followPath();
-                if (newDirection != null) {
-                    lastDirection = newDirection;
-                    state = ActorState.WALKING;
-                } else {
-                    state = ActorState.STANDING;
-                }
-                actor.setAnimation(lastDirection, state, actor.getCurrentAnimation());
-
-            } else {
-                updatePlayerMovement();
-                checkCollisions();
-            }
+            updatePlayerMovement();
+            checkCollisions();
             timeSinceLastMove = 0f;
         }
     }
@@ -202,36 +185,22 @@ public class ActorController extends InputAdapter {
         actor.move(dx, dy, WorldGenerator.getMapWidth(), WorldGenerator.getMapHeight());
     }
 
-    /**
-     * Checks for tile specific actions.
-     */
-    private void checkTileTriggers() {
-        int px = actor.getX();
-        int py = actor.getY();
-
-        StaticObject object = gameScreen.getWorldGenerator().getStaticObjectAt(px, py);
-
-        if (object instanceof DialogueTile dialogueTile && !dialogueTile.isTriggered()) {
-            dialogueTile.setTriggered(true);
-            gameScreen.getDialogueOverlay().startDialogue();
-        }
-    }
-
     /**
      * Checks for collisions with enemies and triggers actions accordingly.
      */
     private void checkCollisions() {
         if (actor instanceof Player player) {
-            for (Enemy enemy : player.world.getEnemies()) {
-                if (player.getX() == enemy.getX() && player.getY() == enemy.getY()) {
-                    player.loseLife();
-                }
+            Actor occupant = player.world.getOccupancy().getActor(player.getX(), player.getY());
+            // a moving actor still holds the tile it leaves, only count the one actually standing on the tile
+            if (occupant == null || occupant.getX() != player.getX() || occupant.getY() != player.getY()) {
+                return;
             }
-            if (player.world.getBoss() != null && player.getX() == player.world.getBoss().getX() && player.getY() == player.world.getBoss().getY() && gameScreen.getBoss().isAlive()) {
+            if (occupant instanceof Enemy) {
+                player.loseLife();
+            } else if (occupant instanceof Boss boss && boss.isAlive()) {
                 gameScreen.getPlayerController().resetMovement();
-                gameScreen.getGame().setScreen(new BattleScreen(gameScreen.getGame(), gameScreen.getPlayer(), gameScreen.getBoss()));
+                gameScreen.getGame().setScreen(new BattleScreen(gameScreen.getGame(), gameScreen.getPlayer(), boss));
             }
-            checkTileTriggers();
         }
     }
 
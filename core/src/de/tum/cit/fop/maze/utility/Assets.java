@@ -0,0 +1,338 @@
+package de.tum.cit.fop.maze.utility;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Game wide cache for textures and sounds, keyed by file path.
+ * Every request for an asset increases its reference count and adds the path to a scope.
+ * Releasing a scope decreases the counts again, an asset is unloaded once nobody references it anymore.
+ * The {@link AssetManager} is only used for loading and disposing, the counts are kept here so they
+ * are exact at any time and don't depend on the manager's load queue.
+ * The global scope lives as long as the game, the level scope is replaced whenever a level is loaded.
+ * Assets can also be preloaded in the background: file parsing and image decoding run on the
+ * manager's loader thread, GPU uploads are done a few at a time by {@link #update(int)}.
+ * Sprite sheets are looked up in the texture atlas packed at build time, so that actors and objects
+ * share a few large textures and can be drawn without texture switches.
+ */
+public class Assets implements Disposable {
+
+    /**
+     * A group of asset references that are released together.
+     */
+    public static class Scope {
+        private final List<String> paths = new ArrayList<>();
+
+        public int size() {
+            return paths.size();
+        }
+    }
+
+    /**
+     * Time in milliseconds spent per frame on finishing preloaded assets.
+     */
+    public static final int FRAME_BUDGET_MILLIS = 2;
+
+    /**
+     * Atlas written by the core module's {@code packTextures} Gradle task into core's generated resources, found on the classpath.
+     */
+    public static final String ATLAS_PATH = "atlas/sprites.atlas";
+
+    private final AssetManager manager = new AssetManager();
+    private final Map<String, Integer> referenceCounts = new HashMap<>();
+    private final Scope globalScope = new Scope();
+    private Scope levelScope = new Scope();
+    private final Scope preloadScope = new Scope();
+
+    private TextureAtlas atlas;
+    private boolean atlasChecked;
+    private final Map<String, TextureRegion> regions = new HashMap<>();
+
+    /**
+     * Returns a texture that is kept for the current level.
+     * @param path internal path of the texture.
+     * @return the shared texture.
+     */
+    public Texture getTexture(String path) {
+        return acquire(path, Texture.class, levelScope);
+    }
+
+    /**
+     * Returns a texture that is kept for the whole game.
+     * @param path internal path of the texture.
+     * @return the shared texture.
+     */
+    public Texture getGlobalTexture(String path) {
+        return acquire(path, Texture.class, globalScope);
+    }
+
+    /**
+     * Returns the region of a sprite sheet in the texture atlas.
+     * If the atlas hasn't been packed or doesn't contain the sheet, the sheet is loaded as its own texture.
+     * Regions are kept for the whole game, so they can be shared between levels.
+     * @param path internal path of the sprite sheet, with or without the "assets/" prefix.
+     * @return region covering the whole sheet.
+     */
+    public TextureRegion getRegion(String path) {
+        TextureRegion region = regions.get(path);
+        if (region == null) {
+            TextureAtlas atlas = getAtlas();
+            if (atlas != null) {
+                region = atlas.findRegion(getRegionName(path));
+            }
+            if (region == null) {
+                region = new TextureRegion(getGlobalTexture(path));
+            }
+            regions.put(path, region);
+        }
+        return region;
+    }
+
+    /**
+     * Returns the name a sprite sheet has in the atlas: its path below the assets folder without extension.
+     * @param path internal path of the sprite sheet.
+     * @return name of the atlas region.
+     */
+    public static String getRegionName(String path) {
+        String name = path.startsWith("assets/") ? path.substring("assets/".length()) : path;
+        int extension = name.lastIndexOf('.');
+        return extension > name.lastIndexOf('/') ? name.substring(0, extension) : name;
+    }
+
+    /**
+     * Loads the atlas on first use.
+     * @return the atlas, or null if it hasn't been packed.
+     */
+    private TextureAtlas getAtlas() {
+        if (!atlasChecked) {
+            atlasChecked = true;
+            if (Gdx.files.internal(ATLAS_PATH).exists()) {
+                atlas = acquire(ATLAS_PATH, TextureAtlas.class, globalScope);
+            } else {
+                Gdx.app.log("Assets", ATLAS_PATH + " not found, drawing from separate textures");
+            }
+        }
+        return atlas;
+    }
+
+    /**
+     * Returns a sound that is kept for the current level.
+     * Objects using the same path share one {@link Music} instance.
+     * @param path internal path of the sound.
+     * @return the shared sound.
+     */
+    public Music getMusic(String path) {
+        return acquire(path, Music.class, levelScope);
+    }
+
+    /**
+     * Returns a sound that is kept for the whole game.
+     * @param path internal path of the sound.
+     * @return the shared sound.
+     */
+    public Music getGlobalMusic(String path) {
+        return acquire(path, Music.class, globalScope);
+    }
+
+    /**
+     * Returns a tiled map that is kept for the current level, including its tileset textures.
+     * @param path internal path of the map.
+     * @return the shared map.
+     */
+    public TiledMap getTiledMap(String path) {
+        return acquire(path, TiledMap.class, levelScope);
+    }
+
+    /**
+     * Starts loading an asset in the background without waiting for it.
+     * The asset stays referenced until {@link #releasePreloads()} is called,
+     * requesting it before that only waits for whatever part is still missing.
+     * @param path internal path of the asset.
+     * @param type class of the asset.
+     */
+    public void preload(String path, Class<?> type) {
+        if (preloadScope.paths.contains(path)) {
+            return;
+        }
+        if (reference(path, preloadScope)) {
+            manager.load(path, type);
+        }
+    }
+
+    /**
+     * Starts loading a sprite sheet in the background, the counterpart of {@link #getRegion(String)}.
+     * If the atlas hasn't been loaded yet the atlas is preloaded, once it is loaded only sheets missing
+     * from it are preloaded as their own textures. Sheets already looked up are skipped.
+     * @param path internal path of the sprite sheet.
+     */
+    public void preloadRegion(String path) {
+        if (regions.containsKey(path)) {
+            return;
+        }
+        if (!atlasChecked && Gdx.files.internal(ATLAS_PATH).exists()) {
+            preload(ATLAS_PATH, TextureAtlas.class);
+            return;
+        }
+        if (atlas == null || atlas.findRegion(getRegionName(path)) == null) {
+            preload(path, Texture.class);
+        }
+    }
+
+    /**
+     * Releases all preloaded assets. Assets that were requested in the meantime stay loaded.
+     */
+    public void releasePreloads() {
+        release(preloadScope);
+    }
+
+    /**
+     * Continues loading queued assets for at most the given time.
+     * @param budgetMillis time budget in milliseconds.
+     * @return true if nothing is left to load, false otherwise.
+     */
+    public boolean update(int budgetMillis) {
+        return manager.update(budgetMillis);
+    }
+
+    /**
+     * Starts a new level scope. Assets requested from now on belong to the new scope.
+     * The previous scope is returned and should be released once the new level is loaded,
+     * so assets used by both levels are never unloaded in between.
+     * @return the scope of the previous level.
+     */
+    public Scope beginLevelScope() {
+        Scope retired = levelScope;
+        levelScope = new Scope();
+        return retired;
+    }
+
+    /**
+     * Releases every reference held by a scope.
+     * @param scope the scope to release.
+     */
+    public void release(Scope scope) {
+        for (String path : scope.paths) {
+            int count = referenceCounts.getOrDefault(path, 0) - 1;
+            if (count > 0) {
+                referenceCounts.put(path, count);
+            } else {
+                referenceCounts.remove(path);
+                if (manager.contains(path)) {
+                    manager.unload(path);
+                }
+            }
+        }
+        scope.paths.clear();
+    }
+
+    /**
+     * @return number of distinct assets currently loaded.
+     */
+    public int getLoadedCount() {
+        return manager.getLoadedAssets();
+    }
+
+    /**
+     * Estimates the video memory used by the loaded textures, without mipmaps.
+     * @return size of all loaded textures in bytes.
+     */
+    public long getTextureBytes() {
+        Array<Texture> textures = new Array<>();
+        manager.getAll(Texture.class, textures);
+        long bytes = 0;
+        for (Texture texture : textures) {
+            bytes += (long) texture.getWidth() * texture.getHeight() * bytesPerPixel(texture.getTextureData().getFormat());
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the size of the loaded sound files.
+     * Music is streamed and never fully decoded, so the encoded file size is what is held.
+     * @return size of all loaded sounds in bytes.
+     */
+    public long getAudioBytes() {
+        long bytes = 0;
+        for (String path : manager.getAssetNames()) {
+            if (manager.getAssetType(path) == Music.class) {
+                bytes += manager.getFileHandleResolver().resolve(path).length();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Logs the number of loaded assets and the memory they use.
+     * @param tag log tag.
+     */
+    public void logUsage(String tag) {
+        Gdx.app.debug(tag, "assets: " + getLoadedCount()
+                + ", textures: " + getTextureBytes() / 1024 + " KiB"
+                + ", audio: " + getAudioBytes() / 1024 + " KiB");
+    }
+
+    /**
+     * Disposes every asset regardless of its reference count.
+     */
+    @Override
+    public void dispose() {
+        manager.dispose();
+    }
+
+    /**
+     * Increases the reference count of an asset, loading it first if necessary.
+     * If the asset is still being preloaded this only waits for it to finish.
+     * The global scope is never released, so it holds at most one reference per asset:
+     * objects created again and again, like the player on every restart, don't add references that are never dropped.
+     */
+    private <T> T acquire(String path, Class<T> type, Scope scope) {
+        if (scope == globalScope && globalScope.paths.contains(path)) {
+            return manager.get(path, type);
+        }
+        if (reference(path, scope)) {
+            manager.load(path, type);
+        }
+        if (!manager.isLoaded(path, type)) {
+            manager.finishLoadingAsset(path);
+        }
+        return manager.get(path, type);
+    }
+
+    /**
+     * Adds a reference to a scope.
+     * @return true if this is the first reference to the asset, false otherwise.
+     */
+    private boolean reference(String path, Scope scope) {
+        scope.paths.add(path);
+        return referenceCounts.merge(path, 1, Integer::sum) == 1;
+    }
+
+    private static int bytesPerPixel(Pixmap.Format format) {
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+}
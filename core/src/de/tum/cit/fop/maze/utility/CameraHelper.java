@@ -14,6 +14,11 @@ public class CameraHelper {
     private float mapWidth;
     private float mapHeight;
 
+    /**
+     * Share of the distance to the player the camera covers in 1/60 s.
+     */
+    private static final float FOLLOW_PER_60TH_SECOND = 0.05f;
+
     /**
      * Constructor for CameraHelper.
      * @param viewportWidth The width of the viewport.
@@ -43,9 +48,13 @@ public class CameraHelper {
      * Updates the camera position based on the player's position.
      * If the camera can see more than the map, the horizontal and/or vertical cameras stay in the center.
      * Handles smooth camera movement and keeps the camera within map boundaries.
+     * The camera closes the same share of the distance per second at any frame rate.
      * @param player player to follow with the camera.
+     * @param delta time in seconds since the last update.
      */
-    public void update(Player player) {
+    public void update(Player player, float delta) {
+        float follow = 1f - (float) Math.pow(1f - FOLLOW_PER_60TH_SECOND, delta * 60f);
+
         float playerX = player.getX() * Settings.SCALED_TILE_SIZE + Settings.SCALED_TILE_SIZE / 2f;
         float playerY = player.getY() * Settings.SCALED_TILE_SIZE + Settings.SCALED_TILE_SIZE / 2f;
 
@@ -60,17 +69,17 @@ public class CameraHelper {
 
         if (cameraHeight >= mapHeight) {
             float mapCenterY = mapHeight / 2f;
-            camera.position.y += (mapCenterY - camera.position.y) * 0.05f;
+            camera.position.y += (mapCenterY - camera.position.y) * follow;
         } else {
-            camera.position.y += (clampedY - camera.position.y) * 0.05f;
+            camera.position.y += (clampedY - camera.position.y) * follow;
         }
 
         if (cameraWidth >= mapWidth) {
             float mapCenterX = mapWidth / 2f;
-            camera.position.x += (mapCenterX - camera.position.x) * 0.05f;
+            camera.position.x += (mapCenterX - camera.position.x) * follow;
         }
         else {
-            camera.position.x += (clampedX - camera.position.x) * 0.05f;
+            camera.position.x += (clampedX - camera.position.x) * follow;
         }
 
         camera.update();
@@ -0,0 +1,86 @@
+package de.tum.cit.fop.maze.utility;
+
+import de.tum.cit.fop.maze.actors.Actor;
+import de.tum.cit.fop.maze.actors.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drawing order of the actors of a level, from the top row of the map down to the bottom row,
+ * so actors further in front are drawn over the ones behind them.
+ * Every tile row has its own list of actors. An actor changing rows is moved from one short list to
+ * another when it starts its move, instead of sorting all actors every frame.
+ * Within a row the player is drawn before the enemies.
+ */
+public class DepthOrder {
+
+    private final List<Actor>[] rows;
+    private int size;
+
+    /**
+     * Creates an empty order for a map of the given height.
+     *
+     * @param height height of the map in tiles.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public DepthOrder(int height) {
+        this.rows = new List[Math.max(height, 1)];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Adds an actor to the row of its current tile.
+     *
+     * @param actor the actor to add.
+     */
+    public void add(Actor actor) {
+        List<Actor> row = rows[clampRow(actor.getY())];
+        if (actor instanceof Player) {
+            row.add(0, actor);
+        } else {
+            row.add(actor);
+        }
+        size++;
+    }
+
+    /**
+     * Moves an actor to the row of its current tile.
+     *
+     * @param actor the actor that changed rows.
+     * @param fromY the row the actor was on before.
+     */
+    public void move(Actor actor, int fromY) {
+        if (rows[clampRow(fromY)].remove(actor)) {
+            size--;
+            add(actor);
+        }
+    }
+
+    /**
+     * Returns the actors on a row, in drawing order.
+     *
+     * @param y y-coordinate of the row.
+     * @return the actors whose tile is on the row.
+     */
+    public List<Actor> getRow(int y) {
+        return rows[y];
+    }
+
+    public int getRowCount() {
+        return rows.length;
+    }
+
+    /**
+     * @return number of actors in the order.
+     */
+    public int size() {
+        return size;
+    }
+
+    private int clampRow(int y) {
+        return Math.min(Math.max(y, 0), rows.length - 1);
+    }
+}
@@ -46,7 +46,7 @@ public class DialogueOverlay {
 
         this.stage = new Stage(new ScreenViewport());
 
-        Texture dialogueTexture = new Texture(Gdx.files.internal("assets/Sprites/Frame.png"));
+        Texture dialogueTexture = game.getAssets().getTexture("assets/Sprites/Frame.png");
         TextureRegionDrawable dialogueBackground = new TextureRegionDrawable(new TextureRegion(dialogueTexture));
 
         Window.WindowStyle windowStyle = new Window.WindowStyle();
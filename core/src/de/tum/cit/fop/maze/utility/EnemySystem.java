@@ -0,0 +1,439 @@
+package de.tum.cit.fop.maze.utility;
+
+import de.tum.cit.fop.maze.actors.Enemy;
+import de.tum.cit.fop.maze.actors.Player;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.SplittableRandom;
+
+/**
+ * Simulation of all enemies of a level.
+ * The state of the enemies is kept in parallel primitive arrays indexed by enemy.
+ * A tick has two phases. In the decision phase every standing enemy picks the tile it wants to
+ * step on next. Decisions only read the world and
+ * only write the deciding enemy's own entries, so with many enemies they run in parallel on the
+ * common fork/join pool. The commit phase then walks the enemies in index order on the calling
+ * thread, claims the chosen tiles on the occupancy grid and advances moving enemies. Conflicts are
+ * resolved in that fixed order, so the result doesn't depend on how the decisions were scheduled.
+ * Wandering enemies walk towards their goal by the world's {@link NextHopTable} if the level has one.
+ * Otherwise the paths to new goals are requested from the world's {@link PathService},
+ * and a wandering enemy stands still until its path arrives.
+ * {@link Enemy} objects only refer to an index in here, they are what the occupancy grid,
+ * the depth order and the renderer see.
+ */
+public class EnemySystem implements PathService.Listener {
+
+    /**
+     * Time in seconds an enemy takes to walk one tile.
+     */
+    public static final float STEP_TIME = 0.25f;
+
+    /**
+     * Distance in tiles (on each axis) at which an enemy starts chasing the player.
+     */
+    private static final int AGGRO_RANGE = 5;
+
+    /**
+     * Number of enemies below which decisions are made on the calling thread,
+     * also the number of enemies a parallel decision task handles without splitting further.
+     */
+    private static final int PARALLEL_BATCH = 256;
+
+    private static final int[] EMPTY_PATH = new int[0];
+
+    private final WorldGenerator world;
+    private int count;
+
+    private Enemy[] enemies = new Enemy[0];
+    private int[] occupancyId = new int[0];
+
+    // tile the enemy is on, or walks to while moving
+    private int[] x = new int[0];
+    private int[] y = new int[0];
+    // tile a moving enemy comes from
+    private int[] fromX = new int[0];
+    private int[] fromY = new int[0];
+    // drawn position in tiles after the current and the previous tick
+    private float[] gridX = new float[0];
+    private float[] gridY = new float[0];
+    private float[] prevGridX = new float[0];
+    private float[] prevGridY = new float[0];
+
+    private boolean[] moving = new boolean[0];
+    private float[] moveTimer = new float[0];
+    private float[] stateTime = new float[0];
+    private byte[] direction = new byte[0];
+
+    // path to a random goal while wandering, as flat tile indices
+    private int[][] path = new int[0][];
+    private int[] pathIndex = new int[0];
+    private boolean[] awaitingPath = new boolean[0];
+    // own random stream of every enemy for its wander goals, split from the level's stream in spawn order
+    private SplittableRandom[] random = new SplittableRandom[0];
+    private final SplittableRandom levelRandom;
+    // goal tile as flat index while wandering by the next-hop table, -1 for none
+    private int[] goal = new int[0];
+
+    // tile chosen in the decision phase as flat index, -1 to stay
+    private int[] intent = new int[0];
+    private boolean[] chasing = new boolean[0];
+
+    // player tile during the current tick, read by the decision tasks
+    private int playerX;
+    private int playerY;
+
+    /**
+     * Creates an empty system for a world.
+     * @param world the world the enemies live in.
+     * @param seed seed of the enemies' random wander goals, the same seed gives the same goals.
+     */
+    public EnemySystem(WorldGenerator world, long seed) {
+        this.world = world;
+        this.levelRandom = new SplittableRandom(seed);
+    }
+
+    /**
+     * Adds an enemy standing on a tile.
+     * @param enemy the enemy object representing the new entry.
+     * @param tileX x-coordinate of the tile.
+     * @param tileY y-coordinate of the tile.
+     * @return index of the enemy.
+     */
+    public int spawn(Enemy enemy, int tileX, int tileY) {
+        if (count == x.length) {
+            grow(Math.max(16, count * 2));
+        }
+        int i = count++;
+        enemies[i] = enemy;
+        x[i] = tileX;
+        y[i] = tileY;
+        fromX[i] = tileX;
+        fromY[i] = tileY;
+        gridX[i] = tileX;
+        gridY[i] = tileY;
+        prevGridX[i] = tileX;
+        prevGridY[i] = tileY;
+        direction[i] = (byte) ActorController.Direction.S.ordinal();
+        path[i] = EMPTY_PATH;
+        goal[i] = -1;
+        random[i] = levelRandom.split();
+        return i;
+    }
+
+    /**
+     * Advances all enemies by one tick.
+     * @param delta time in seconds since the last tick.
+     */
+    public void update(float delta) {
+        Player player = world.getPlayer();
+        playerX = player.getX();
+        playerY = player.getY();
+
+        NextHopTable table = world.getNextHopTable();
+        if (count > PARALLEL_BATCH) {
+            ForkJoinPool.commonPool().invoke(new DecideTask(0, count, table));
+        } else {
+            decide(0, count, table);
+        }
+
+        for (int i = 0; i < count; i++) {
+            prevGridX[i] = gridX[i];
+            prevGridY[i] = gridY[i];
+
+            if (intent[i] >= 0 || (chasing[i] && !moving[i])) {
+                commit(i);
+            } else if (!moving[i] && !chasing[i]) {
+                if (table != null) {
+                    goal[i] = randomGoal(i);
+                } else if (!awaitingPath[i] && pathIndex[i] >= path[i].length) {
+                    requestRandomPath(i);
+                }
+            }
+
+            if (moving[i]) {
+                stateTime[i] += delta;
+                moveTimer[i] += delta;
+                if (moveTimer[i] >= STEP_TIME) {
+                    finishMove(i);
+                } else {
+                    float progress = moveTimer[i] / STEP_TIME;
+                    gridX[i] = fromX[i] + (x[i] - fromX[i]) * progress;
+                    gridY[i] = fromY[i] + (y[i] - fromY[i]) * progress;
+                }
+            }
+        }
+    }
+
+    /**
+     * Decision phase for a range of enemies: every standing enemy picks the tile it wants to step on.
+     * Enemies close to the player follow the flow field, the others walk to a random goal
+     * by the next-hop table or along their path.
+     * Only reads the world, so ranges can be decided in parallel.
+     * @param from index of the first enemy.
+     * @param to index after the last enemy.
+     * @param table the world's next-hop table, null if the enemies follow paths.
+     */
+    private void decide(int from, int to, NextHopTable table) {
+        for (int i = from; i < to; i++) {
+            intent[i] = -1;
+            if (moving[i]) {
+                continue;
+            }
+            if (Math.abs(playerX - x[i]) <= AGGRO_RANGE && Math.abs(playerY - y[i]) <= AGGRO_RANGE) {
+                chasing[i] = true;
+                path[i] = EMPTY_PATH;
+                goal[i] = -1;
+                intent[i] = world.getFlowField().nextStep(x[i], y[i], world);
+            } else {
+                chasing[i] = false;
+                if (table != null) {
+                    if (goal[i] >= 0) {
+                        intent[i] = table.nextStep(x[i], y[i], goal[i]);
+                    }
+                } else if (pathIndex[i] < path[i].length) {
+                    intent[i] = path[i][pathIndex[i]];
+                }
+            }
+        }
+    }
+
+    /**
+     * Commit phase of a single enemy: starts the move it decided on.
+     * If another enemy claimed the tile earlier in this tick, a chasing enemy looks for another
+     * step towards the player and a wandering enemy drops its goal and path.
+     * A chasing enemy that found no free step in the decision phase looks again as well,
+     * an enemy in front of it may have finished its step earlier in this tick.
+     * @param i index of the enemy.
+     */
+    private void commit(int i) {
+        int width = WorldGenerator.getMapWidth();
+        boolean moved = intent[i] >= 0 && tryMove(i, intent[i] % width, intent[i] / width);
+        if (chasing[i]) {
+            if (!moved) {
+                int next = world.getFlowField().nextStep(x[i], y[i], world);
+                if (next >= 0 && next != intent[i]) {
+                    tryMove(i, next % width, next / width);
+                }
+            }
+        } else if (moved) {
+            pathIndex[i]++;
+        } else {
+            path[i] = EMPTY_PATH;
+            goal[i] = -1;
+        }
+    }
+
+    /**
+     * Sets a random goal for an enemy and requests a path towards it.
+     * @param i index of the enemy.
+     */
+    private void requestRandomPath(int i) {
+        int width = WorldGenerator.getMapWidth();
+        int target = randomGoal(i);
+        awaitingPath[i] = true;
+        world.getPathService().request(x[i], y[i], target % width, target / width, this, i);
+    }
+
+    /**
+     * Picks a random passable tile from an enemy's own random stream.
+     * @param i index of the enemy.
+     * @return flat index of the tile.
+     */
+    private int randomGoal(int i) {
+        SplittableRandom random = this.random[i];
+        int goalX, goalY;
+        do {
+            goalX = random.nextInt(WorldGenerator.getMapWidth());
+            goalY = random.nextInt(WorldGenerator.getMapHeight());
+        } while (!world.isPassable(goalX, goalY));
+        return goalY * WorldGenerator.getMapWidth() + goalX;
+    }
+
+    /**
+     * Receives a requested wander path.
+     * The enemy may have moved while the path was searched, it continues from its current tile
+     * if the path passes it and requests a new one otherwise.
+     * @param i index of the enemy.
+     * @param found the tile indices of the path.
+     */
+    @Override
+    public void onPathFound(int i, int[] found) {
+        awaitingPath[i] = false;
+        int current = y[i] * WorldGenerator.getMapWidth() + x[i];
+        for (int step = 0; step < found.length; step++) {
+            if (found[step] == current) {
+                path[i] = found;
+                pathIndex[i] = step + 1;
+                return;
+            }
+        }
+        path[i] = EMPTY_PATH;
+        pathIndex[i] = 0;
+    }
+
+    /**
+     * Starts moving an enemy to a neighbouring tile.
+     * @param i index of the enemy.
+     * @param nextX x-coordinate of the next tile.
+     * @param nextY y-coordinate of the next tile.
+     * @return true if the enemy started moving, false if the tile is blocked.
+     */
+    private boolean tryMove(int i, int nextX, int nextY) {
+        int dx = nextX - x[i];
+        int dy = nextY - y[i];
+        if (dx == 0 && dy == 0) {
+            return false;
+        }
+        if (!world.isPassable(nextX, nextY) || !world.getOccupancy().occupy(nextX, nextY, occupancyId[i])) {
+            return false;
+        }
+
+        if (dy > 0) direction[i] = (byte) ActorController.Direction.W.ordinal();
+        else if (dy < 0) direction[i] = (byte) ActorController.Direction.S.ordinal();
+        else if (dx < 0) direction[i] = (byte) ActorController.Direction.A.ordinal();
+        else direction[i] = (byte) ActorController.Direction.D.ordinal();
+
+        fromX[i] = x[i];
+        fromY[i] = y[i];
+        x[i] = nextX;
+        y[i] = nextY;
+        moving[i] = true;
+        moveTimer[i] = 0f;
+
+        if (dy != 0) {
+            world.getDepthOrder().move(enemies[i], fromY[i]);
+        }
+        world.dispatchTileExit(enemies[i], fromX[i], fromY[i], nextX, nextY);
+        return true;
+    }
+
+    /**
+     * Finalizes the move of an enemy, frees the tile it came from and notifies the objects on the new tile.
+     * @param i index of the enemy.
+     */
+    private void finishMove(int i) {
+        gridX[i] = x[i];
+        gridY[i] = y[i];
+        moving[i] = false;
+        stateTime[i] = 0f;
+        world.getOccupancy().release(fromX[i], fromY[i], occupancyId[i]);
+        world.dispatchTileEnter(enemies[i], fromX[i], fromY[i], x[i], y[i]);
+    }
+
+    private void grow(int capacity) {
+        enemies = Arrays.copyOf(enemies, capacity);
+        occupancyId = Arrays.copyOf(occupancyId, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        fromX = Arrays.copyOf(fromX, capacity);
+        fromY = Arrays.copyOf(fromY, capacity);
+        gridX = Arrays.copyOf(gridX, capacity);
+        gridY = Arrays.copyOf(gridY, capacity);
+        prevGridX = Arrays.copyOf(prevGridX, capacity);
+        prevGridY = Arrays.copyOf(prevGridY, capacity);
+        moving = Arrays.copyOf(moving, capacity);
+        moveTimer = Arrays.copyOf(moveTimer, capacity);
+        stateTime = Arrays.copyOf(stateTime, capacity);
+        direction = Arrays.copyOf(direction, capacity);
+        path = Arrays.copyOf(path, capacity);
+        pathIndex = Arrays.copyOf(pathIndex, capacity);
+        awaitingPath = Arrays.copyOf(awaitingPath, capacity);
+        goal = Arrays.copyOf(goal, capacity);
+        random = Arrays.copyOf(random, capacity);
+        intent = Arrays.copyOf(intent, capacity);
+        chasing = Arrays.copyOf(chasing, capacity);
+    }
+
+    /**
+     * Decides a range of enemies, splitting it in halves until the ranges are small enough.
+     */
+    private class DecideTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final NextHopTable table;
+
+        DecideTask(int from, int to, NextHopTable table) {
+            this.from = from;
+            this.to = to;
+            this.table = table;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_BATCH) {
+                decide(from, to, table);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new DecideTask(from, middle, table), new DecideTask(middle, to, table));
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int getX(int i) {
+        return x[i];
+    }
+
+    public int getY(int i) {
+        return y[i];
+    }
+
+    public float getGridX(int i) {
+        return gridX[i];
+    }
+
+    public float getGridY(int i) {
+        return gridY[i];
+    }
+
+    /**
+     * Returns the x-coordinate an enemy is drawn at, between its positions after the last two ticks.
+     * @param i index of the enemy.
+     * @param alpha progress from the last towards the next tick, from 0 to 1.
+     * @return the interpolated x-coordinate in tiles.
+     */
+    public float getDrawX(int i, float alpha) {
+        return prevGridX[i] + (gridX[i] - prevGridX[i]) * alpha;
+    }
+
+    /**
+     * Returns the y-coordinate an enemy is drawn at, between its positions after the last two ticks.
+     * @param i index of the enemy.
+     * @param alpha progress from the last towards the next tick, from 0 to 1.
+     * @return the interpolated y-coordinate in tiles.
+     */
+    public float getDrawY(int i, float alpha) {
+        return prevGridY[i] + (gridY[i] - prevGridY[i]) * alpha;
+    }
+
+    public boolean isMoving(int i) {
+        return moving[i];
+    }
+
+    public float getStateTime(int i) {
+        return stateTime[i];
+    }
+
+    /**
+     * @param i index of the enemy.
+     * @return ordinal of the {@link ActorController.Direction} the enemy is facing.
+     */
+    public int getDirection(int i) {
+        return direction[i];
+    }
+
+    public int getOccupancyId(int i) {
+        return occupancyId[i];
+    }
+
+    public void setOccupancyId(int i, int id) {
+        occupancyId[i] = id;
+    }
+}
@@ -0,0 +1,139 @@
+package de.tum.cit.fop.maze.utility;
+
+import java.util.Arrays;
+
+/**
+ * A distance map towards a single target tile, shared by all actors chasing that target.
+ * The field is a breadth-first search seeded at the target and is only rebuilt when the
+ * target moves to another tile or when the version of the passability grid changes.
+ * Actors then read their next step from it in constant time.
+ */
+public class FlowField {
+
+    private static final int[] DX = {0, 0, 1, -1};
+    private static final int[] DY = {1, -1, 0, 0};
+
+    private final int width;
+    private final int height;
+    private final int[] distance;
+    private final int[] queue;
+
+    private int targetX = -1;
+    private int targetY = -1;
+    private int builtVersion = -1;
+
+    /**
+     * Creates an empty flow field for a map of the given size.
+     *
+     * @param width width of the map in tiles.
+     * @param height height of the map in tiles.
+     */
+    public FlowField(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.distance = new int[width * height];
+        this.queue = new int[width * height];
+        Arrays.fill(distance, -1);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Rebuilds the field if the target moved to another tile or the passability grid changed.
+     *
+     * @param targetX x-coordinate of the target tile.
+     * @param targetY y-coordinate of the target tile.
+     * @param passability passability grid of the world.
+     */
+    public void update(int targetX, int targetY, PassabilityGrid passability) {
+        if (builtVersion == passability.getVersion() && targetX == this.targetX && targetY == this.targetY) {
+            return;
+        }
+        this.targetX = targetX;
+        this.targetY = targetY;
+        builtVersion = passability.getVersion();
+        rebuild(passability);
+    }
+
+    /**
+     * Runs the breadth-first search from the target tile.
+     *
+     * @param passability passability grid of the world.
+     */
+    private void rebuild(PassabilityGrid passability) {
+        Arrays.fill(distance, -1);
+        if (!isInside(targetX, targetY)) {
+            return;
+        }
+
+        int head = 0;
+        int tail = 0;
+        int target = targetY * width + targetX;
+        distance[target] = 0;
+        queue[tail++] = target;
+
+        while (head < tail) {
+            int current = queue[head++];
+            int currentX = current % width;
+            int currentY = current / width;
+            int nextDistance = distance[current] + 1;
+
+            for (int i = 0; i < DX.length; i++) {
+                int neighborX = currentX + DX[i];
+                int neighborY = currentY + DY[i];
+                if (!isInside(neighborX, neighborY)) continue;
+
+                int neighbor = neighborY * width + neighborX;
+                if (distance[neighbor] != -1 || !passability.isPassable(neighbor)) continue;
+
+                distance[neighbor] = nextDistance;
+                queue[tail++] = neighbor;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of steps from a tile to the target.
+     *
+     * @param x x-coordinate of the tile.
+     * @param y y-coordinate of the tile.
+     * @return the distance in steps, -1 if the target can't be reached from the tile.
+     */
+    public int getDistance(int x, int y) {
+        return isInside(x, y) ? distance[y * width + x] : -1;
+    }
+
+    /**
+     * Returns the neighbouring tile that brings an actor one step closer to the target.
+     * Tiles occupied by enemies are skipped, so chasers spread over equally short routes.
+     *
+     * @param x x-coordinate of the actor.
+     * @param y y-coordinate of the actor.
+     * @param world the game world, used for occupancy checks.
+     * @return flat index (y * width + x) of the next tile, -1 if the actor is on the target or can't reach it.
+     */
+    public int nextStep(int x, int y, WorldGenerator world) {
+        int current = getDistance(x, y);
+        if (current <= 0) {
+            return -1;
+        }
+        for (int i = 0; i < DX.length; i++) {
+            int neighborX = x + DX[i];
+            int neighborY = y + DY[i];
+            if (getDistance(neighborX, neighborY) == current - 1 && !world.isOccupiedByEnemy(neighborX, neighborY)) {
+                return neighborY * width + neighborX;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isInside(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+}
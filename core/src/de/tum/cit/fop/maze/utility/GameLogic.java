@@ -2,21 +2,21 @@ package de.tum.cit.fop.maze.utility;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.utils.ScreenUtils;
 import de.tum.cit.fop.maze.MazeRunnerGame;
 import de.tum.cit.fop.maze.actors.Actor;
 import de.tum.cit.fop.maze.actors.Boss;
-import de.tum.cit.fop.maze.actors.Enemy;
 import de.tum.cit.fop.maze.actors.Player;
 import de.tum.cit.fop.maze.screens.GameScreen;
 import de.tum.cit.fop.maze.screens.HUDScreen;
-import de.tum.cit.fop.maze.staticObjects.Heart;
 import de.tum.cit.fop.maze.staticObjects.Key;
-import de.tum.cit.fop.maze.staticObjects.Shield;
 import de.tum.cit.fop.maze.staticObjects.StaticObject;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -25,7 +25,6 @@ import java.util.List;
  */
 public class GameLogic {
     private GameScreen gameScreen;
-    private float stateTime = 0f;
 
     private final MazeRunnerGame game;
     private CameraHelper cameraHelper;
@@ -37,7 +36,6 @@ public class GameLogic {
 
     private final OrthogonalTiledMapRenderer mapRenderer;
     private ActorController playerController;
-    private  List<ActorController> enemyController;
 
     private WorldGenerator worldGenerator;
     private List<StaticObject> staticObjects;
@@ -46,6 +44,42 @@ public class GameLogic {
 
     private TiledMapTileLayer tileLayerTopWall;
 
+    /**
+     * Tiles drawn around the visible area, covers sprites larger than their tile (3x3 boss, 2x high actors).
+     */
+    private static final int CULL_MARGIN_TILES = 3;
+
+    private final List<StaticObject> visibleObjects = new ArrayList<>();
+
+    /**
+     * Order of the objects in the level, the spatial index returns them by cell instead.
+     */
+    private static final Comparator<StaticObject> DRAW_ORDER = Comparator.comparingInt(StaticObject::getDrawOrder);
+    private int viewFromX, viewFromY, viewToX, viewToY;
+    private int drawnCount;
+    private int culledCount;
+
+    private int worldRenderCalls;
+    private float renderStatsTimer;
+
+    /**
+     * Length of a simulation tick in seconds, the game logic runs at 120 Hz regardless of the frame rate.
+     */
+    public static final float TICK_TIME = 1f / 120f;
+
+    /**
+     * Longest frame time that is simulated, so a stall (loading, window drag) doesn't cause a burst of ticks.
+     */
+    private static final float MAX_FRAME_TIME = 0.25f;
+
+    private float accumulator;
+    private float alpha;
+
+    /**
+     * Node expansions all time-sliced path searches of a frame may use together, see {@link PathService}.
+     */
+    private static final int PATH_EXPANSIONS_PER_FRAME = 2000;
+
     /**
      * Constructor for GameLogic instance.
      * @param gameScreen GameScreen instance this logic is used for.
@@ -60,7 +94,6 @@ public class GameLogic {
         this.hudScreen = gameScreen.getHudScreen();
         this.mapRenderer = gameScreen.getMapRenderer();
         this.playerController = gameScreen.getPlayerController();
-        this.enemyController = gameScreen.getEnemyController();
         this.worldGenerator = gameScreen.getWorldGenerator();
         this.staticObjects = gameScreen.getStaticObjects();
         this.actorList = gameScreen.getActorList();
@@ -69,50 +102,53 @@ public class GameLogic {
 
     /**
      * Updates the game state.
-     * Handles input, updates actors, objects and game elements.
+     * Handles input and runs as many fixed simulation ticks as fit into the elapsed time,
+     * the remainder is kept for the next frame and used to interpolate the drawn positions.
      * @param delta time in seconds since last update.
      */
     public void update(float delta) {
 
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) { gameScreen.pause(); }
 
-        stateTime += delta;
+        game.updateLevelPreload();
+        game.getAssets().update(Assets.FRAME_BUDGET_MILLIS);
+        worldGenerator.getPathService().update(PATH_EXPANSIONS_PER_FRAME);
+
+        accumulator += Math.min(delta, MAX_FRAME_TIME);
+        while (accumulator >= TICK_TIME) {
+            accumulator -= TICK_TIME;
+            tick(TICK_TIME);
+            if (game.getScreen() != gameScreen) {
+                // the tick switched to another screen (pause, battle, defeat), stop simulating this one
+                accumulator = 0f;
+                break;
+            }
+        }
+        alpha = accumulator / TICK_TIME;
+
+        cameraHelper.update(player, delta);
+    }
 
+    /**
+     * Advances the simulation by one fixed step.
+     * Updates controllers, actors, objects and game elements.
+     * @param delta length of the step in seconds, always {@link #TICK_TIME}.
+     */
+    private void tick(float delta) {
         playerController.update(delta);
-        for (ActorController enemyController : enemyController) {
-            enemyController.update(delta);
-        }
+        worldGenerator.getFlowField().update(player.getX(), player.getY(), worldGenerator.getPassability());
+        worldGenerator.getEnemySystem().update(delta);
 
         for (Actor actor : actorList){
             if (actor != null) {
-                actor.update(delta);
+                actor.tick(delta);
             }
         }
-
-        staticObjects.removeIf(obj ->
-                (obj instanceof Heart && ((Heart) obj).isCollected()) ||
-                (obj instanceof Shield && ((Shield) obj).isCollected())
-        );
-
-
-        cameraHelper.update(player);
-
-        if (game.getCurrentLevel() != 0 && game.getCurrentLevel() != 5) {
-            actorList.sort((a, b) -> {
-                if (a.getY() != b.getY()) {
-                    return Float.compare(b.getY(), a.getY());
-                } else {
-                    if (a instanceof Enemy && b instanceof Player) {
-                        return 1;
-                    } else if (a instanceof Player && b instanceof Enemy) {
-                        return -1;
-                    }
-                    return 0;
-                }
-            });
+        for (StaticObject obj : staticObjects) {
+            obj.tick(delta);
         }
 
-        worldGenerator.updateImpassableTiles();
+        worldGenerator.removeCollectedPowerUps();
     }
 
     /**
@@ -129,26 +165,58 @@ public class GameLogic {
         game.getSpriteBatch().setProjectionMatrix(cameraHelper.getCamera().combined);
         game.getSpriteBatch().begin();
 
-        for (StaticObject obj : staticObjects) {
+        updateViewBounds();
+        drawnCount = 0;
+        culledCount = 0;
+
+        visibleObjects.clear();
+        worldGenerator.getStaticObjectIndex().query(viewFromX, viewFromY,
+                viewToX - viewFromX + 1, viewToY - viewFromY + 1, visibleObjects);
+        culledCount += staticObjects.size() - visibleObjects.size();
+        // overlapping sprites (entry fog, exit, power-ups next to walls) stack in level order
+        visibleObjects.sort(DRAW_ORDER);
+
+        for (StaticObject obj : visibleObjects) {
             if (obj.getClass() == Key.class && boss.isAlive()) {
                 continue;
             }
-            obj.update(stateTime);
+            obj.draw(game.getSpriteBatch(), alpha);
+            drawnCount++;
         }
 
         if (game.getCurrentLevel() != 0 && game.getCurrentLevel() != 5) {
-            for (Actor actor : actorList) {
-                if (actor.getClass() == Boss.class && !boss.isAlive()) {
-                    continue;
+            // rows outside the view can't hold visible actors, walk only the visible rows back to front
+            DepthOrder depthOrder = worldGenerator.getDepthOrder();
+            int actorsInView = 0;
+            for (int row = Math.min(viewToY, depthOrder.getRowCount() - 1); row >= Math.max(viewFromY, 0); row--) {
+                for (Actor actor : depthOrder.getRow(row)) {
+                    actorsInView++;
+                    if (actor.getClass() == Boss.class && !boss.isAlive()) {
+                        continue;
+                    }
+                    if (!isVisible(actor)) {
+                        culledCount++;
+                        continue;
+                    }
+                    actor.draw(game.getSpriteBatch(), alpha);
+                    drawnCount++;
                 }
-                actor.render(game, actor.getStateTime());
             }
+            culledCount += depthOrder.size() - actorsInView;
         } else {
-            player.render(game, stateTime);
+            player.draw(game.getSpriteBatch(), alpha);
+            drawnCount++;
         }
 
 
         game.getSpriteBatch().end();
+        worldRenderCalls = game.getSpriteBatch().renderCalls;
+        renderStatsTimer += delta;
+        if (renderStatsTimer >= 1f) {
+            renderStatsTimer = 0f;
+            Gdx.app.debug("GameLogic", "world draw calls: " + worldRenderCalls
+                    + ", drawn: " + drawnCount + ", culled: " + culledCount);
+        }
 
         if (game.getCurrentLevel() != 5) {
             mapRenderer.getBatch().begin();
@@ -161,4 +229,51 @@ public class GameLogic {
         }
     }
 
+    /**
+     * Computes the range of tiles visible through the camera, extended by {@link #CULL_MARGIN_TILES}.
+     */
+    private void updateViewBounds() {
+        OrthographicCamera camera = cameraHelper.getCamera();
+        float halfWidth = camera.viewportWidth * camera.zoom / 2f;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2f;
+
+        viewFromX = (int) Math.floor((camera.position.x - halfWidth) / Settings.SCALED_TILE_SIZE) - CULL_MARGIN_TILES;
+        viewFromY = (int) Math.floor((camera.position.y - halfHeight) / Settings.SCALED_TILE_SIZE) - CULL_MARGIN_TILES;
+        viewToX = (int) Math.floor((camera.position.x + halfWidth) / Settings.SCALED_TILE_SIZE) + CULL_MARGIN_TILES;
+        viewToY = (int) Math.floor((camera.position.y + halfHeight) / Settings.SCALED_TILE_SIZE) + CULL_MARGIN_TILES;
+    }
+
+    /**
+     * Checks if an actor is inside the visible tiles computed by {@link #updateViewBounds()}.
+     * @param actor the actor to check.
+     * @return true if the actor has to be drawn, false if it can be skipped.
+     */
+    private boolean isVisible(Actor actor) {
+        return actor.getGridX() >= viewFromX && actor.getGridX() <= viewToX
+                && actor.getGridY() >= viewFromY && actor.getGridY() <= viewToY;
+    }
+
+    /**
+     * @return number of static objects and actors drawn in the last frame.
+     */
+    public int getDrawnCount() {
+        return drawnCount;
+    }
+
+    /**
+     * @return number of static objects and actors skipped in the last frame because they were off screen.
+     */
+    public int getCulledCount() {
+        return culledCount;
+    }
+
+    /**
+     * Returns the number of draw calls the sprite batch needed for the objects and actors in the last frame.
+     * With the texture atlas these usually share one texture, so this stays at a handful.
+     * @return draw calls of the last rendered world frame.
+     */
+    public int getWorldRenderCalls() {
+        return worldRenderCalls;
+    }
+
 }
\ No newline at end of file
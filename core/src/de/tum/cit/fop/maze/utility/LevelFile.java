@@ -0,0 +1,217 @@
+package de.tum.cit.fop.maze.utility;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Properties;
+
+/**
+ * Precompiled binary version of a level's objects, written by the core module's
+ * {@code compileLevels} Gradle task next to the TMX file ("maps/Level N.lvl").
+ * The file is memory mapped and decoded completely when it is loaded, so loading it on a background thread
+ * leaves nothing but creating the objects for the game thread.
+ *
+ * Layout (big endian):
+ * <pre>
+ * int  magic, int version, long CRC32 of the TMX file it was compiled from
+ * int  width, int height (in tiles)
+ * int  wordCount, long[wordCount] wall bitset (bit y * width + x set = wall)
+ * int  objectCount, objectCount * { byte type, int x, int y, int width, int height } (in tiles)
+ * </pre>
+ * Objects are stored in the order of the TMX object layers. The tile layers are not part of
+ * the file, the renderer still needs the TMX file for them and for the tilesets.
+ * Whether a compiled file is up to date is decided by the build: {@code compileLevels} runs again whenever a TMX
+ * file changes and lists the checksum of every file it compiled in {@value #MANIFEST_PATH}. A level file is only
+ * used if its header carries the checksum of its manifest entry, the TMX file itself isn't read for the check.
+ */
+public class LevelFile {
+
+    public static final int MAGIC = 0x4D5A4C56;
+    public static final int VERSION = 2;
+
+    /**
+     * Checksums of the TMX files compiled by the last run of {@code compileLevels}, keyed by file name.
+     */
+    public static final String MANIFEST_PATH = "maps/levels.manifest";
+
+    private static Properties manifest;
+
+    public static final byte WALL = 0;
+    public static final byte KEY = 1;
+    public static final byte ENTRY = 2;
+    public static final byte TRAP_DAMAGE = 3;
+    public static final byte TRAP_DEBUFF = 4;
+    public static final byte TELEPORTER = 5;
+    public static final byte DIALOGUE_TILE = 6;
+    public static final byte CUTSCENE_TILE = 7;
+    public static final byte ENEMY = 8;
+    public static final byte BOSS = 9;
+
+    private static final int RECORD_SIZE = 1 + 4 * 4;
+
+    private final int width;
+    private final int height;
+    private final long[] walls;
+    private final int objectCount;
+    private final byte[] objectTypes;
+    // x, y, width and height of every object
+    private final int[] objectBounds;
+
+    /**
+     * Decodes a level file.
+     *
+     * @param buffer the contents of the file.
+     * @param sourceChecksum CRC32 of the TMX file listed in the manifest.
+     * @throws GdxRuntimeException if the file is invalid or was compiled from another version of the TMX file.
+     */
+    private LevelFile(ByteBuffer buffer, long sourceChecksum) {
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new GdxRuntimeException("Not a level file of version " + VERSION);
+        }
+        if (buffer.getLong() != sourceChecksum) {
+            throw new GdxRuntimeException("Level file doesn't match " + MANIFEST_PATH);
+        }
+        width = buffer.getInt();
+        height = buffer.getInt();
+
+        walls = new long[buffer.getInt()];
+        buffer.asLongBuffer().get(walls);
+        buffer.position(buffer.position() + walls.length * Long.BYTES);
+
+        objectCount = buffer.getInt();
+        if (objectCount < 0 || buffer.remaining() < (long) objectCount * RECORD_SIZE) {
+            throw new GdxRuntimeException("Level file is truncated");
+        }
+        objectTypes = new byte[objectCount];
+        objectBounds = new int[objectCount * 4];
+        for (int i = 0; i < objectCount; i++) {
+            objectTypes[i] = buffer.get();
+            for (int j = 0; j < 4; j++) {
+                objectBounds[i * 4 + j] = buffer.getInt();
+            }
+        }
+    }
+
+    /**
+     * Loads the compiled version of a level if there is an up to date one.
+     *
+     * @param level the level number.
+     * @return the level file, or null if the level has to be parsed from its TMX file.
+     */
+    public static LevelFile load(int level) {
+        FileHandle file = Gdx.files.internal(getPath(level));
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            String source = Gdx.files.internal(WorldGenerator.getMapPath(level)).name();
+            String checksum = getManifest().getProperty(source);
+            if (checksum == null) {
+                throw new GdxRuntimeException(source + " isn't listed in " + MANIFEST_PATH);
+            }
+            return new LevelFile(file.map(), Long.parseLong(checksum));
+        } catch (GdxRuntimeException | BufferUnderflowException | NumberFormatException e) {
+            Gdx.app.log("LevelFile", "Falling back to TMX for level " + level + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Reads the manifest written by {@code compileLevels} on first use.
+     * Levels can be loaded from a background thread, so the first read is synchronized.
+     *
+     * @return the checksums of the compiled TMX files, empty if there is no manifest.
+     * @throws GdxRuntimeException if the manifest exists but can't be read.
+     */
+    private static synchronized Properties getManifest() {
+        if (manifest == null) {
+            Properties checksums = new Properties();
+            FileHandle file = Gdx.files.internal(MANIFEST_PATH);
+            if (file.exists()) {
+                try (Reader reader = file.reader("UTF-8")) {
+                    checksums.load(reader);
+                } catch (IOException e) {
+                    throw new GdxRuntimeException("Couldn't read " + MANIFEST_PATH, e);
+                }
+            }
+            manifest = checksums;
+        }
+        return manifest;
+    }
+
+    /**
+     * Returns the path of the compiled file of a level.
+     *
+     * @param level the level number.
+     * @return internal path of the level file.
+     */
+    public static String getPath(int level) {
+        return "maps/Level " + level + ".lvl";
+    }
+
+    /**
+     * Returns the type code of a TMX object layer.
+     *
+     * @param layerName name of the object layer.
+     * @return the type code, -1 if the layer doesn't describe game objects.
+     */
+    public static int getType(String layerName) {
+        return switch (layerName) {
+            case "Walls" -> WALL;
+            case "Key" -> KEY;
+            case "Entry" -> ENTRY;
+            case "Trap Damage" -> TRAP_DAMAGE;
+            case "Trap Debuff" -> TRAP_DEBUFF;
+            case "Teleporter" -> TELEPORTER;
+            case "DialogueTile" -> DIALOGUE_TILE;
+            case "CutsceneTile" -> CUTSCENE_TILE;
+            case "Enemy" -> ENEMY;
+            case "Boss" -> BOSS;
+            default -> -1;
+        };
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return the wall bitset, in the layout used by {@link PassabilityGrid}.
+     */
+    public long[] getWalls() {
+        return walls;
+    }
+
+    public int getObjectCount() {
+        return objectCount;
+    }
+
+    public int getObjectType(int index) {
+        return objectTypes[index];
+    }
+
+    public int getObjectX(int index) {
+        return objectBounds[index * 4];
+    }
+
+    public int getObjectY(int index) {
+        return objectBounds[index * 4 + 1];
+    }
+
+    public int getObjectWidth(int index) {
+        return objectBounds[index * 4 + 2];
+    }
+
+    public int getObjectHeight(int index) {
+        return objectBounds[index * 4 + 3];
+    }
+}
@@ -0,0 +1,95 @@
+package de.tum.cit.fop.maze.utility;
+
+import de.tum.cit.fop.maze.actors.Boss;
+import de.tum.cit.fop.maze.actors.Enemy;
+import de.tum.cit.fop.maze.staticObjects.CutsceneTile;
+import de.tum.cit.fop.maze.staticObjects.Entry;
+import de.tum.cit.fop.maze.staticObjects.Exit;
+import de.tum.cit.fop.maze.staticObjects.Heart;
+import de.tum.cit.fop.maze.staticObjects.Key;
+import de.tum.cit.fop.maze.staticObjects.Shield;
+import de.tum.cit.fop.maze.staticObjects.TrapDamage;
+import de.tum.cit.fop.maze.staticObjects.TrapDebuff;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Prepares the next level while the current one is played.
+ * The level file is read and decoded on the common fork/join pool. Once it is decoded, {@link #update(Assets)}
+ * queues the textures, sounds and atlas used by the level's objects on the asset manager's loader thread.
+ * Only creating the objects is left for the level switch, because they are bound to the live player and world
+ * and take their assets from the {@link Assets} cache, which may only be used on the game thread.
+ */
+public class LevelPreload {
+
+    private final int level;
+    private final ForkJoinTask<LevelFile> decoding;
+    private boolean assetsQueued;
+
+    /**
+     * Starts decoding the level file in the background.
+     * @param level the level to prepare.
+     */
+    public LevelPreload(int level) {
+        this.level = level;
+        this.decoding = ForkJoinPool.commonPool().submit(() -> LevelFile.load(level));
+    }
+
+    /**
+     * Queues the assets of the level's objects as soon as the level file is decoded.
+     * Called once per frame on the game thread.
+     * @param assets the game's asset cache.
+     */
+    public void update(Assets assets) {
+        if (assetsQueued || !decoding.isDone()) {
+            return;
+        }
+        assetsQueued = true;
+        LevelFile levelFile = decoding.join();
+        if (levelFile == null) {
+            // the objects will be read from the TMX file, which isn't loaded yet
+            return;
+        }
+        boolean[] queued = new boolean[LevelFile.BOSS + 1];
+        for (int i = 0; i < levelFile.getObjectCount(); i++) {
+            int type = levelFile.getObjectType(i);
+            if (type >= 0 && type < queued.length && !queued[type]) {
+                queued[type] = true;
+                preloadAssets(type, assets);
+            }
+        }
+        if (WorldGenerator.hasPowerUps(level)) {
+            Heart.preloadAssets(assets);
+            Shield.preloadAssets(assets);
+        }
+    }
+
+    /**
+     * Queues the assets of one type of object.
+     */
+    private static void preloadAssets(int type, Assets assets) {
+        switch (type) {
+            case LevelFile.KEY -> Key.preloadAssets(assets);
+            case LevelFile.ENTRY -> Entry.preloadAssets(assets);
+            case LevelFile.TRAP_DAMAGE -> TrapDamage.preloadAssets(assets);
+            case LevelFile.TRAP_DEBUFF -> TrapDebuff.preloadAssets(assets);
+            case LevelFile.TELEPORTER -> Exit.preloadAssets(assets);
+            case LevelFile.CUTSCENE_TILE -> CutsceneTile.preloadAssets(assets);
+            case LevelFile.ENEMY -> Enemy.preloadAssets(assets);
+            case LevelFile.BOSS -> Boss.preloadAssets(assets);
+        }
+    }
+
+    /**
+     * Returns the decoded level file, waiting for the decoding if it hasn't finished yet.
+     * @return the level file, or null if the level has to be parsed from its TMX file.
+     */
+    public LevelFile getLevelFile() {
+        return decoding.join();
+    }
+
+    public int getLevel() {
+        return level;
+    }
+}
@@ -0,0 +1,187 @@
+package de.tum.cit.fop.maze.utility;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Precomputed first step of the shortest path between every pair of passable tiles of a small map.
+ * Passable tiles are numbered as cells, and for every goal cell the table holds one byte per cell:
+ * the direction to walk in from that cell to get one step closer to the goal.
+ * Looking up the way to any goal is then constant time and doesn't search anything.
+ * The table needs cells * cells bytes, so it is only built for maps up to a cell limit,
+ * larger maps have to search their paths.
+ * Every goal is a breadth-first search of its own, the searches run in parallel on the common fork/join pool.
+ */
+public class NextHopTable {
+
+    private static final int[] DX = {0, 0, 1, -1};
+    private static final int[] DY = {1, -1, 0, 0};
+    private static final byte[] OPPOSITE = {1, 0, 3, 2};
+    private static final byte NONE = -1;
+
+    /**
+     * Number of goals a build task handles without splitting further.
+     */
+    private static final int PARALLEL_GOALS = 64;
+
+    /**
+     * Largest number of cells whose table still fits into one array, cells * cells must not overflow an int.
+     */
+    public static final int MAX_CELLS = 46340;
+
+    private final int width;
+    private final int height;
+    // cell number of every tile, -1 for impassable tiles
+    private final int[] cellOfTile;
+    // flat tile index of every cell
+    private final int[] tileOfCell;
+    private final int cellCount;
+    // direction from a cell towards a goal at goalCell * cellCount + cell, NONE if the goal can't be reached
+    private final byte[] hops;
+    private final int builtVersion;
+
+    /**
+     * Builds the table for the current passability of a map.
+     *
+     * @param passability passability grid of the world.
+     * @param cellLimit maximum number of passable tiles a table is built for, limits above {@link #MAX_CELLS} are clamped.
+     * @return the table, null if the map has more passable tiles than the limit.
+     */
+    public static NextHopTable build(PassabilityGrid passability, int cellLimit) {
+        cellLimit = Math.min(cellLimit, MAX_CELLS);
+        int size = passability.getWidth() * passability.getHeight();
+        int cells = 0;
+        for (int tile = 0; tile < size; tile++) {
+            if (passability.isPassable(tile) && ++cells > cellLimit) {
+                return null;
+            }
+        }
+        return new NextHopTable(passability, cells);
+    }
+
+    private NextHopTable(PassabilityGrid passability, int cellCount) {
+        this.width = passability.getWidth();
+        this.height = passability.getHeight();
+        this.cellCount = cellCount;
+        this.builtVersion = passability.getVersion();
+
+        cellOfTile = new int[width * height];
+        tileOfCell = new int[cellCount];
+        int cell = 0;
+        for (int tile = 0; tile < cellOfTile.length; tile++) {
+            if (passability.isPassable(tile)) {
+                tileOfCell[cell] = tile;
+                cellOfTile[tile] = cell++;
+            } else {
+                cellOfTile[tile] = -1;
+            }
+        }
+
+        hops = new byte[cellCount * cellCount];
+        if (cellCount > PARALLEL_GOALS) {
+            ForkJoinPool.commonPool().invoke(new BuildTask(0, cellCount));
+        } else {
+            buildGoals(0, cellCount);
+        }
+    }
+
+    /**
+     * Fills the table for a range of goal cells, one breadth-first search outwards from each goal.
+     * A cell first reached from a neighbour walks towards that neighbour to get closer to the goal.
+     *
+     * @param from first goal cell.
+     * @param to goal cell after the last one.
+     */
+    private void buildGoals(int from, int to) {
+        int[] queue = new int[cellCount];
+        for (int goal = from; goal < to; goal++) {
+            int row = goal * cellCount;
+            Arrays.fill(hops, row, row + cellCount, NONE);
+
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = goal;
+            // the goal itself is marked as reached with any value other than NONE
+            hops[row + goal] = 0;
+            while (head < tail) {
+                int current = queue[head++];
+                int tile = tileOfCell[current];
+                int x = tile % width;
+                int y = tile / width;
+                for (int i = 0; i < DX.length; i++) {
+                    int neighborX = x + DX[i];
+                    int neighborY = y + DY[i];
+                    if (neighborX < 0 || neighborY < 0 || neighborX >= width || neighborY >= height) continue;
+
+                    int neighbor = cellOfTile[neighborY * width + neighborX];
+                    if (neighbor < 0 || hops[row + neighbor] != NONE) continue;
+
+                    hops[row + neighbor] = OPPOSITE[i];
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the neighbouring tile that brings an actor one step closer to a goal.
+     *
+     * @param x x-coordinate of the actor.
+     * @param y y-coordinate of the actor.
+     * @param goal flat index (y * width + x) of the goal tile.
+     * @return flat index of the next tile, -1 if the actor is on the goal or can't reach it.
+     */
+    public int nextStep(int x, int y, int goal) {
+        if (x < 0 || y < 0 || x >= width || y >= height || goal < 0 || goal >= cellOfTile.length) {
+            return -1;
+        }
+        int tile = y * width + x;
+        int cell = cellOfTile[tile];
+        int goalCell = cellOfTile[goal];
+        if (cell < 0 || goalCell < 0 || cell == goalCell) {
+            return -1;
+        }
+        byte direction = hops[goalCell * cellCount + cell];
+        if (direction == NONE) {
+            return -1;
+        }
+        return (y + DY[direction]) * width + x + DX[direction];
+    }
+
+    /**
+     * @return the passability version the table was built for.
+     */
+    public int getBuiltVersion() {
+        return builtVersion;
+    }
+
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    /**
+     * Builds a range of goals, splitting it in halves until the ranges are small enough.
+     */
+    private class BuildTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        BuildTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_GOALS) {
+                buildGoals(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new BuildTask(from, middle), new BuildTask(middle, to));
+        }
+    }
+}
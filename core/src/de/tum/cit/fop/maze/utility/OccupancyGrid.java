@@ -0,0 +1,121 @@
+package de.tum.cit.fop.maze.utility;
+
+import de.tum.cit.fop.maze.actors.Actor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tile occupancy of the world's enemies and the boss, indexed by y * width + x.
+ * Every registered actor gets an id greater than zero which is written into the cells it holds,
+ * so finding out who is on a tile is a single array lookup instead of a loop over all actors.
+ * A moving actor holds both the tile it leaves and the tile it walks to until the move is finished.
+ */
+public class OccupancyGrid {
+
+    public static final int EMPTY = 0;
+
+    private final int width;
+    private final int height;
+    private final int[] cells;
+    private final List<Actor> actors = new ArrayList<>();
+
+    /**
+     * Creates an empty grid for a map of the given size.
+     *
+     * @param width width of the map in tiles.
+     * @param height height of the map in tiles.
+     */
+    public OccupancyGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.cells = new int[width * height];
+    }
+
+    /**
+     * Registers an actor and places it on its current tile.
+     *
+     * @param actor the actor to track.
+     * @return the id of the actor.
+     */
+    public int register(Actor actor) {
+        actors.add(actor);
+        int id = actors.size();
+        occupy(actor.getX(), actor.getY(), id);
+        return id;
+    }
+
+    /**
+     * Returns the id of the actor holding a tile.
+     *
+     * @param x x-coordinate of the tile.
+     * @param y y-coordinate of the tile.
+     * @return the id of the actor, {@link #EMPTY} if the tile is free or outside the map.
+     */
+    public int getId(int x, int y) {
+        if (!isInside(x, y)) {
+            return EMPTY;
+        }
+        return cells[y * width + x];
+    }
+
+    /**
+     * Returns the actor holding a tile.
+     *
+     * @param x x-coordinate of the tile.
+     * @param y y-coordinate of the tile.
+     * @return the actor on the tile, or null if the tile is free.
+     */
+    public Actor getActor(int x, int y) {
+        int id = getId(x, y);
+        return id == EMPTY ? null : actors.get(id - 1);
+    }
+
+    /**
+     * Checks if any tracked actor holds a tile.
+     *
+     * @param x x-coordinate of the tile.
+     * @param y y-coordinate of the tile.
+     * @return true if the tile is held, false if not.
+     */
+    public boolean isOccupied(int x, int y) {
+        return getId(x, y) != EMPTY;
+    }
+
+    /**
+     * Claims a tile for an actor.
+     *
+     * @param x x-coordinate of the tile.
+     * @param y y-coordinate of the tile.
+     * @param id id of the actor.
+     * @return true if the tile is now held by the actor, false if it is outside the map or held by another actor.
+     */
+    public boolean occupy(int x, int y, int id) {
+        if (!isInside(x, y)) {
+            return false;
+        }
+        int index = y * width + x;
+        if (cells[index] != EMPTY && cells[index] != id) {
+            return false;
+        }
+        cells[index] = id;
+        return true;
+    }
+
+    /**
+     * Releases a tile if it is held by the given actor.
+     *
+     * @param x x-coordinate of the tile.
+     * @param y y-coordinate of the tile.
+     * @param id id of the actor.
+     */
+    public void release(int x, int y, int id) {
+        if (isInside(x, y) && cells[y * width + x] == id) {
+            cells[y * width + x] = EMPTY;
+        }
+    }
+
+    private boolean isInside(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+}
@@ -0,0 +1,252 @@
+package de.tum.cit.fop.maze.utility;
+
+import java.util.Arrays;
+
+/**
+ * Dense passability map of the world, indexed by y * width + x.
+ * Every tile is one bit in a long[] bitset, a set bit marks an impassable tile.
+ * Tiles outside the map are reported as impassable, so lookups double as bounds checks.
+ * Every modification increases a version number, which caches built on top of the grid
+ * use to find out whether they are outdated.
+ */
+public class PassabilityGrid {
+
+    private final int width;
+    private final int height;
+    private final long[] blocked;
+    private int version;
+
+    /**
+     * Creates a grid in which every tile is passable.
+     *
+     * @param width width of the map in tiles.
+     * @param height height of the map in tiles.
+     */
+    public PassabilityGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.blocked = new long[(width * height + 63) >>> 6];
+    }
+
+    /**
+     * Creates a copy of a grid with the same tiles and version.
+     *
+     * @param source the grid to copy.
+     */
+    private PassabilityGrid(PassabilityGrid source) {
+        this.width = source.width;
+        this.height = source.height;
+        this.blocked = source.blocked.clone();
+        this.version = source.version;
+    }
+
+    /**
+     * Copies the grid, e.g. for searches on other threads while the original keeps changing.
+     *
+     * @return an independent grid with the current tiles and version.
+     */
+    public PassabilityGrid copy() {
+        return new PassabilityGrid(this);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return a number that increases every time the passability of a tile is modified.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Checks if a tile is passable.
+     *
+     * @param x x-coordinate of the tile.
+     * @param y y-coordinate of the tile.
+     * @return true if the tile is inside the map and passable, false otherwise.
+     */
+    public boolean isPassable(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return false;
+        }
+        int index = y * width + x;
+        return (blocked[index >>> 6] & (1L << index)) == 0;
+    }
+
+    /**
+     * Checks if a tile is passable.
+     *
+     * @param index flat index (y * width + x) of the tile.
+     * @return true if the index is inside the map and the tile is passable, false otherwise.
+     */
+    public boolean isPassable(int index) {
+        if (index < 0 || index >= width * height) {
+            return false;
+        }
+        return (blocked[index >>> 6] & (1L << index)) == 0;
+    }
+
+    /**
+     * Sets the passability of a single tile. Tiles outside the map are ignored.
+     *
+     * @param x x-coordinate of the tile.
+     * @param y y-coordinate of the tile.
+     * @param passable true to make the tile passable, false to block it.
+     */
+    public void setPassable(int x, int y, boolean passable) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return;
+        }
+        int index = y * width + x;
+        if (passable) {
+            blocked[index >>> 6] &= ~(1L << index);
+        } else {
+            blocked[index >>> 6] |= 1L << index;
+        }
+        version++;
+    }
+
+    /**
+     * Sets the passability of a rectangle of tiles, clipped to the map.
+     *
+     * @param x x-coordinate of the bottom left tile.
+     * @param y y-coordinate of the bottom left tile.
+     * @param rectWidth width of the rectangle in tiles.
+     * @param rectHeight height of the rectangle in tiles.
+     * @param passable true to make the tiles passable, false to block them.
+     */
+    public void setPassable(int x, int y, int rectWidth, int rectHeight, boolean passable) {
+        int fromX = Math.max(x, 0);
+        int toX = Math.min(x + rectWidth, width) - 1;
+        int fromY = Math.max(y, 0);
+        int toY = Math.min(y + rectHeight, height) - 1;
+        if (fromX > toX) {
+            return;
+        }
+        for (int row = fromY; row <= toY; row++) {
+            setRange(row * width + fromX, row * width + toX, passable);
+        }
+        version++;
+    }
+
+    /**
+     * Marks every tile as passable.
+     */
+    public void clear() {
+        Arrays.fill(blocked, 0L);
+        version++;
+    }
+
+    /**
+     * Replaces the whole grid with a precomputed bitset.
+     *
+     * @param words impassable bits in the layout described by {@link #getWord(int)}.
+     * @throws IllegalArgumentException if the bitset doesn't match the size of the grid.
+     */
+    public void setWords(long[] words) {
+        if (words.length != blocked.length) {
+            throw new IllegalArgumentException("Expected " + blocked.length + " words, got " + words.length);
+        }
+        System.arraycopy(words, 0, blocked, 0, blocked.length);
+        version++;
+    }
+
+    /**
+     * @return number of 64-bit words backing the grid.
+     */
+    public int getWordCount() {
+        return blocked.length;
+    }
+
+    /**
+     * Returns a raw word of the bitset. Bit i of word w belongs to the tile with flat index w * 64 + i,
+     * a set bit marks an impassable tile.
+     *
+     * @param wordIndex index of the word.
+     * @return the impassable bits of 64 consecutive tiles.
+     */
+    public long getWord(int wordIndex) {
+        return blocked[wordIndex];
+    }
+
+    /**
+     * Checks if every tile in a horizontal span of a row is passable, testing up to 64 tiles at once.
+     *
+     * @param y row of the span.
+     * @param fromX first x-coordinate of the span (inclusive).
+     * @param toX last x-coordinate of the span (inclusive).
+     * @return true if the span lies inside the map and all of its tiles are passable, false otherwise.
+     */
+    public boolean isRowPassable(int y, int fromX, int toX) {
+        if (fromX > toX) {
+            int swap = fromX;
+            fromX = toX;
+            toX = swap;
+        }
+        if (y < 0 || y >= height || fromX < 0 || toX >= width) {
+            return false;
+        }
+        int from = y * width + fromX;
+        int to = y * width + toX;
+        int fromWord = from >>> 6;
+        int toWord = to >>> 6;
+        for (int word = fromWord; word <= toWord; word++) {
+            long mask = -1L;
+            if (word == fromWord) mask &= -1L << from;
+            if (word == toWord) mask &= -1L >>> (63 - (to & 63));
+            if ((blocked[word] & mask) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if every tile in a vertical span of a column is passable.
+     *
+     * @param x column of the span.
+     * @param fromY first y-coordinate of the span (inclusive).
+     * @param toY last y-coordinate of the span (inclusive).
+     * @return true if the span lies inside the map and all of its tiles are passable, false otherwise.
+     */
+    public boolean isColumnPassable(int x, int fromY, int toY) {
+        if (fromY > toY) {
+            int swap = fromY;
+            fromY = toY;
+            toY = swap;
+        }
+        if (x < 0 || x >= width || fromY < 0 || toY >= height) {
+            return false;
+        }
+        for (int index = fromY * width + x; index <= toY * width + x; index += width) {
+            if ((blocked[index >>> 6] & (1L << index)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sets the bits of a range of flat indices.
+     */
+    private void setRange(int from, int to, boolean passable) {
+        int fromWord = from >>> 6;
+        int toWord = to >>> 6;
+        for (int word = fromWord; word <= toWord; word++) {
+            long mask = -1L;
+            if (word == fromWord) mask &= -1L << from;
+            if (word == toWord) mask &= -1L >>> (63 - (to & 63));
+            if (passable) {
+                blocked[word] &= ~mask;
+            } else {
+                blocked[word] |= mask;
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package de.tum.cit.fop.maze.utility;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded cache of found paths, keyed by start tile, goal tile and the passability version they were found in.
+ * When the cache is full the least recently used path is dropped.
+ * A query is also answered by a cached path to the same goal that passes through the start,
+ * because every part of a shortest path is a shortest path as well.
+ * All paths belong to one passability version: as soon as a query or a new path carries another version
+ * the cache is emptied, so paths through tiles that were opened or closed since are never returned.
+ * The cache hands out copies, so requesters may keep or change the arrays they get.
+ */
+public class PathCache {
+
+    /**
+     * Number of paths kept if not configured otherwise.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final int capacity;
+    private final LinkedHashMap<Long, Entry> entries;
+    private final Map<Integer, List<Entry>> entriesByGoal = new HashMap<>();
+    private int version = -1;
+
+    private int hits;
+    private int misses;
+
+    /**
+     * Constructor for a PathCache.
+     * @param capacity maximum number of paths kept.
+     */
+    public PathCache(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > PathCache.this.capacity) {
+                    removeFromGoal(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Looks up a path, either stored for exactly these tiles or as part of a longer path to the same goal.
+     * @param start flat index of the start tile.
+     * @param goal flat index of the goal tile.
+     * @param passabilityVersion current passability version of the world.
+     * @return a copy of the path from start to goal, null if none is cached.
+     */
+    public int[] get(int start, int goal, int passabilityVersion) {
+        checkVersion(passabilityVersion);
+
+        Entry entry = entries.get(key(start, goal));
+        if (entry != null) {
+            hits++;
+            return entry.path.clone();
+        }
+
+        List<Entry> sameGoal = entriesByGoal.get(goal);
+        if (sameGoal != null) {
+            for (Entry candidate : sameGoal) {
+                int[] path = candidate.path;
+                for (int step = 1; step < path.length; step++) {
+                    if (path[step] == start) {
+                        // mark the longer path as used
+                        entries.get(candidate.key);
+                        hits++;
+                        return Arrays.copyOfRange(path, step, path.length);
+                    }
+                }
+            }
+        }
+        misses++;
+        return null;
+    }
+
+    /**
+     * Stores a found path. Paths of an outdated passability version and empty paths are ignored.
+     * @param path tile indices of the path, starting with the start tile and ending with the goal tile.
+     * @param passabilityVersion passability version the path was searched in.
+     */
+    public void put(int[] path, int passabilityVersion) {
+        if (path.length == 0 || passabilityVersion < version) {
+            return;
+        }
+        checkVersion(passabilityVersion);
+
+        int start = path[0];
+        int goal = path[path.length - 1];
+        Entry entry = new Entry(key(start, goal), goal, path.clone());
+        Entry replaced = entries.put(entry.key, entry);
+        if (replaced != null) {
+            removeFromGoal(replaced);
+        }
+        entriesByGoal.computeIfAbsent(goal, g -> new ArrayList<>()).add(entry);
+    }
+
+    /**
+     * Empties the cache if the passability changed since the stored paths were found.
+     */
+    private void checkVersion(int passabilityVersion) {
+        if (passabilityVersion != version) {
+            entries.clear();
+            entriesByGoal.clear();
+            version = passabilityVersion;
+        }
+    }
+
+    private void removeFromGoal(Entry entry) {
+        List<Entry> sameGoal = entriesByGoal.get(entry.goal);
+        sameGoal.remove(entry);
+        if (sameGoal.isEmpty()) {
+            entriesByGoal.remove(entry.goal);
+        }
+    }
+
+    private static long key(int start, int goal) {
+        return ((long) start << 32) | (goal & 0xFFFFFFFFL);
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static class Entry {
+        private final long key;
+        private final int goal;
+        private final int[] path;
+
+        Entry(long key, int goal, int[] path) {
+            this.key = key;
+            this.goal = goal;
+            this.path = path;
+        }
+    }
+}
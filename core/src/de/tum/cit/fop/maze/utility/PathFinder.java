@@ -1,96 +1,83 @@
 package de.tum.cit.fop.maze.utility;
 
-import java.util.*;
 
 /**
  * The PathFinder class implements the A* pathfinding algorithm to find the shortest
  * path between a starting position and a goal position in the game world.
  * it avoids impassable tiles.
+ * The search itself runs on an {@link AStarSearch} sized to the current map.
+ * Every thread has its own engine, so paths can be searched from parallel tasks.
  */
 public class PathFinder {
 
+    private static final ThreadLocal<AStarSearch> engine = new ThreadLocal<>();
+
     /**
      * Finds the shortest path from a start position to a goal position using the A* algorithm.
-     * returns a list with corrdinates, which form a path.
+     * returns the tiles which form the path as flat indices (y * width + x), starting with the start tile.
      *
      * @param startX The starting X-coordinate.
      * @param startY The starting Y-coordinate.
      * @param goalX The goal X-coordinate.
      * @param goalY The goal Y-coordinate.
      * @param world The game world.
-     * @return A list of int arrays representing the path from start to goal.
-     *         Each array contains two values: [x, y].
+     * @return the tile indices of the path from start to goal, empty if there is no path.
      */
-    public static List<int[]> findPath(int startX, int startY, int goalX, int goalY, WorldGenerator world) {
-        HashSet<Node> openSet = new HashSet<>();
-        HashSet<Node> closedSet = new HashSet<>();
-        openSet.add(new Node(startX, startY, 0, heuristic(startX, startY, goalX, goalY), null));
-
-        while (!openSet.isEmpty()) {
-            Node current = openSet.stream()
-                    .min(Comparator.comparingInt(node -> node.g + node.h))
-                    .orElse(null);
-
-            if (current == null) break;
-
-            openSet.remove(current);
-
-            if (current.x == goalX && current.y == goalY) {
-                return reconstructPath(current);
-            }
-
-            closedSet.add(current);
-
-            for (int[] direction : new int[][]{{0, 1}, {0, -1}, {1, 0}, {-1, 0}}) {
-                int neighborX = current.x + direction[0];
-                int neighborY = current.y + direction[1];
-
-                if (!world.isPassable(neighborX, neighborY)) continue;
+    public static int[] findPath(int startX, int startY, int goalX, int goalY, WorldGenerator world) {
+        int width = WorldGenerator.getMapWidth();
+        int height = WorldGenerator.getMapHeight();
 
-                Node neighbor = new Node(neighborX, neighborY, current.g + 1,
-                        heuristic(neighborX, neighborY, goalX, goalY), current);
+        if (startX < 0 || startY < 0 || startX >= width || startY >= height
+                || goalX < 0 || goalY < 0 || goalX >= width || goalY >= height) {
+            return new int[0];
+        }
 
-                if (closedSet.contains(neighbor)) continue;
+        return findPath(startY * width + startX, goalY * width + goalX, world.getPassability());
+    }
 
-                if (!openSet.contains(neighbor)) {
-                    openSet.add(neighbor);
-                } else {
-                    Node existing = openSet.stream().filter(n -> n.equals(neighbor)).findFirst().orElse(null);
-                    if (existing != null && existing.g > neighbor.g) {
-                        openSet.remove(existing);
-                        openSet.add(neighbor);
-                    }
-                }
-            }
+    /**
+     * Finds the shortest path between two tiles of a passability grid using the A* algorithm.
+     * Only reads the given grid, so it can be used on a copy while the world keeps changing.
+     *
+     * @param start flat index of the start tile.
+     * @param goal flat index of the goal tile.
+     * @param passability the grid to search in, also defines the map size.
+     * @return the tile indices of the path from start to goal, empty if there is no path.
+     */
+    public static int[] findPath(int start, int goal, PassabilityGrid passability) {
+        AStarSearch search = getEngine(passability.getWidth(), passability.getHeight());
+        if (!search.search(start, goal, passability)) {
+            return new int[0];
         }
-
-        return Collections.emptyList();
+        return reconstructPath(search);
     }
 
     /**
-     * Computes the heuristic cost for A* pathfinding using Manhattan distance.
+     * Returns the search engine of the calling thread, creating a new one when the map size changed.
      *
-     * @param x The X-coordinate of the current node.
-     * @param y The Y-coordinate of the current node.
-     * @param goalX The X-coordinate of the goal node.
-     * @param goalY The Y-coordinate of the goal node.
-     * @return The heuristic value - an estimated distance to the goal.
+     * @param width width of the map in tiles.
+     * @param height height of the map in tiles.
+     * @return the search engine for the current map.
      */
-    private static int heuristic(int x, int y, int goalX, int goalY) {
-        return Math.abs(x - goalX) + Math.abs(y - goalY);
+    private static AStarSearch getEngine(int width, int height) {
+        AStarSearch search = engine.get();
+        if (search == null || search.getWidth() != width || search.getHeight() != height) {
+            search = new AStarSearch(width, height);
+            engine.set(search);
+        }
+        return search;
     }
 
     /**
-     * Reconstructs the path from the goal node back to the start node.
+     * Copies the path found by the engine, so the engine can be reused for the next search.
      *
-     * @param node The goal node.
-     * @return A list of int arrays representing the reconstructed path.
+     * @param search the engine holding the last found path.
+     * @return the tile indices of the path.
      */
-    private static List<int[]> reconstructPath(Node node) {
-        List<int[]> path = new ArrayList<>();
-        while (node != null) {
-            path.add(0, new int[]{node.x, node.y});
-            node = node.parent;
+    static int[] reconstructPath(AStarSearch search) {
+        int[] path = new int[search.getPathLength()];
+        for (int i = 0; i < path.length; i++) {
+            path[i] = search.getPathIndex(i);
         }
         return path;
     }
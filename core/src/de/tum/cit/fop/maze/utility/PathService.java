@@ -0,0 +1,298 @@
+package de.tum.cit.fop.maze.utility;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Searches paths for the actors of a world in the background.
+ * Actors request a path and keep playing while it is searched.
+ * Requests with the same start and goal tile and the same passability that are still waiting for their result
+ * are merged into one search,
+ * requests the {@link PathCache} can answer aren't searched at all.
+ * Paths are either searched on a worker pool shared by all worlds, or time-sliced on the game thread:
+ * then {@link #update(int)} expands a limited number of nodes per frame and continues the searches on the next frame.
+ * Time slicing is used by default on machines with two cores or less.
+ * Found paths are handed back to the requesters on the game thread,
+ * at most a fixed number per frame, so a burst of finished searches is spread over several frames.
+ * Every search runs on a copy of the passability made when it was requested,
+ * so the game thread can keep changing the world while the workers read it.
+ * Requesting and updating must both happen on the game thread.
+ */
+public class PathService {
+
+    /**
+     * Receives the paths requested from a {@link PathService}.
+     */
+    public interface Listener {
+        /**
+         * Called on the game thread with the result of a request.
+         * @param requester the id given when requesting the path.
+         * @param path the tile indices of the path from start to goal, empty if there is no path.
+         */
+        void onPathFound(int requester, int[] path);
+    }
+
+    /**
+     * Number of results applied per frame if not configured otherwise.
+     */
+    public static final int DEFAULT_RESULT_BUDGET = 16;
+
+    private static ExecutorService workers;
+
+    private final WorldGenerator world;
+    private final Map<Long, Request> pending = new HashMap<>();
+    private final Queue<Request> finished = new ConcurrentLinkedQueue<>();
+    private int resultBudget = DEFAULT_RESULT_BUDGET;
+    private final PathCache cache = new PathCache(PathCache.DEFAULT_CAPACITY);
+
+    // copy of the world's passability shared by the requests until the passability changes
+    private PassabilityGrid snapshot;
+    private volatile boolean cancelled;
+
+    private boolean timeSliced = Runtime.getRuntime().availableProcessors() <= 2;
+    // time-sliced searches waiting for the engine, the first one is in progress
+    private final ArrayDeque<Request> sliced = new ArrayDeque<>();
+    private AStarSearch slicedSearch;
+    private boolean slicedStarted;
+
+    // request whose requesters didn't all get their result in the last frame
+    private Request delivering;
+    private int deliveredCount;
+
+    /**
+     * Constructor for a PathService.
+     * @param world the world the paths are searched in.
+     */
+    public PathService(WorldGenerator world) {
+        this.world = world;
+    }
+
+    /**
+     * Requests a path. The result is delivered to the listener by a later call of {@link #update(int)}.
+     * @param startX x-coordinate of the start tile.
+     * @param startY y-coordinate of the start tile.
+     * @param goalX x-coordinate of the goal tile.
+     * @param goalY y-coordinate of the goal tile.
+     * @param listener receiver of the result.
+     * @param requester id passed back to the listener, e.g. the index of the actor.
+     */
+    public void request(int startX, int startY, int goalX, int goalY, Listener listener, int requester) {
+        int width = WorldGenerator.getMapWidth();
+        long key = ((long) (startY * width + startX) << 32) | (goalY * width + goalX);
+        Request request = pending.get(key);
+        // a pending search on an older passability doesn't answer requests made after the change
+        if (request == null || request.grid.getVersion() != world.getPassabilityVersion()) {
+            request = new Request(key, startY * width + startX, goalY * width + goalX, getSnapshot());
+            pending.put(key, request);
+            int[] cached = cache.get(request.start, request.goal, request.grid.getVersion());
+            if (cached != null) {
+                // still goes through the delivery, so hits count against the result budget as well
+                request.path = cached;
+                request.fromCache = true;
+                finished.add(request);
+            } else if (timeSliced) {
+                sliced.add(request);
+            } else {
+                getWorkers().execute(request);
+            }
+        }
+        request.addRequester(listener, requester);
+    }
+
+    /**
+     * Drops all requests, e.g. when the world is replaced by another level.
+     * Searches running on the workers finish without being delivered, queued ones aren't started.
+     */
+    public void cancel() {
+        cancelled = true;
+        pending.clear();
+        sliced.clear();
+        finished.clear();
+        delivering = null;
+        slicedStarted = false;
+    }
+
+    /**
+     * Returns a copy of the world's passability, made again only when the passability changed.
+     * @return the copy for new requests.
+     */
+    private PassabilityGrid getSnapshot() {
+        if (snapshot == null || snapshot.getVersion() != world.getPassabilityVersion()) {
+            snapshot = world.getPassability().copy();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Advances the time-sliced searches and hands finished paths to their requesters.
+     * Called once per frame.
+     * @param expansionBudget maximum number of nodes expanded by all time-sliced searches together.
+     */
+    public void update(int expansionBudget) {
+        stepSlicedSearches(expansionBudget);
+        deliverResults();
+    }
+
+    /**
+     * Runs the queued time-sliced searches one after another until the budget is used up.
+     * A search that doesn't finish within the budget continues where it stopped on the next call.
+     * @param expansionBudget maximum number of nodes to expand.
+     */
+    private void stepSlicedSearches(int expansionBudget) {
+        int remaining = expansionBudget;
+        while (remaining > 0 && !sliced.isEmpty()) {
+            Request request = sliced.peek();
+            if (!slicedStarted) {
+                PassabilityGrid grid = request.grid;
+                if (slicedSearch == null || slicedSearch.getWidth() != grid.getWidth() || slicedSearch.getHeight() != grid.getHeight()) {
+                    slicedSearch = new AStarSearch(grid.getWidth(), grid.getHeight());
+                }
+                slicedSearch.begin(request.start, request.goal, grid);
+                slicedStarted = true;
+            }
+            int status = slicedSearch.step(remaining);
+            remaining -= slicedSearch.getStepExpansions();
+            if (status == AStarSearch.SEARCHING) {
+                continue;
+            }
+            request.path = status == AStarSearch.FOUND ? PathFinder.reconstructPath(slicedSearch) : new int[0];
+            sliced.poll();
+            slicedStarted = false;
+            finished.add(request);
+        }
+    }
+
+    /**
+     * Hands finished paths to their requesters, at most as many as the result budget allows.
+     * Results over the budget stay queued for the next call.
+     */
+    private void deliverResults() {
+        int applied = 0;
+        while (applied < resultBudget) {
+            if (delivering == null) {
+                delivering = finished.poll();
+                if (delivering == null) {
+                    return;
+                }
+                // later requests for the same tiles start a new search
+                pending.remove(delivering.key, delivering);
+                if (!delivering.fromCache) {
+                    cache.put(delivering.path, delivering.grid.getVersion());
+                }
+                deliveredCount = 0;
+            }
+            while (deliveredCount < delivering.requesterCount && applied < resultBudget) {
+                delivering.listeners[deliveredCount].onPathFound(delivering.requesters[deliveredCount], delivering.path);
+                deliveredCount++;
+                applied++;
+            }
+            if (deliveredCount == delivering.requesterCount) {
+                delivering = null;
+            }
+        }
+    }
+
+    /**
+     * Sets how many results {@link #update(int)} applies at most per call.
+     * @param resultBudget the maximum number of results per frame, at least 1.
+     */
+    public void setResultBudget(int resultBudget) {
+        this.resultBudget = Math.max(1, resultBudget);
+    }
+
+    public int getResultBudget() {
+        return resultBudget;
+    }
+
+    /**
+     * Chooses where new requests are searched. Requests already made keep their way.
+     * @param timeSliced true to search on the game thread within the expansion budget, false to use the worker pool.
+     */
+    public void setTimeSliced(boolean timeSliced) {
+        this.timeSliced = timeSliced;
+    }
+
+    public boolean isTimeSliced() {
+        return timeSliced;
+    }
+
+    /**
+     * @return the cache of found paths, e.g. to read its hit and miss counters.
+     */
+    public PathCache getCache() {
+        return cache;
+    }
+
+    /**
+     * @return number of searches requested but not yet delivered completely.
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Returns the worker pool, creating it on first use.
+     * The workers are daemon threads, so they don't keep the game running after it was closed.
+     * @return the shared worker pool.
+     */
+    private static synchronized ExecutorService getWorkers() {
+        if (workers == null) {
+            int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            workers = Executors.newFixedThreadPool(threads, task -> {
+                Thread thread = new Thread(task, "path-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return workers;
+    }
+
+    /**
+     * A search and everyone waiting for its result.
+     * The requesters are only touched on the game thread, the worker only writes the path.
+     */
+    private class Request implements Runnable {
+        private final long key;
+        // flat tile indices of start and goal
+        private final int start, goal;
+        // passability when the request was made, never changed afterwards
+        private final PassabilityGrid grid;
+        private boolean fromCache;
+        private Listener[] listeners = new Listener[1];
+        private int[] requesters = new int[1];
+        private int requesterCount;
+        private int[] path;
+
+        Request(long key, int start, int goal, PassabilityGrid grid) {
+            this.key = key;
+            this.start = start;
+            this.goal = goal;
+            this.grid = grid;
+        }
+
+        void addRequester(Listener listener, int requester) {
+            if (requesterCount == requesters.length) {
+                listeners = Arrays.copyOf(listeners, requesterCount * 2);
+                requesters = Arrays.copyOf(requesters, requesterCount * 2);
+            }
+            listeners[requesterCount] = listener;
+            requesters[requesterCount] = requester;
+            requesterCount++;
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+            path = PathFinder.findPath(start, goal, grid);
+            finished.add(this);
+        }
+    }
+}
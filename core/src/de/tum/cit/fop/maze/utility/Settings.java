@@ -8,4 +8,6 @@ public class Settings {
     public static int TILE_SIZE = 32;
     public static float SCALE = 1f;
     public static float SCALED_TILE_SIZE = SCALE * TILE_SIZE;
+    // levels with more passable tiles search their paths instead of building a NextHopTable
+    public static int NEXT_HOP_CELL_LIMIT = 2048;
 }
@@ -0,0 +1,167 @@
+package de.tum.cit.fop.maze.utility;
+
+import de.tum.cit.fop.maze.staticObjects.StaticObject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Uniform grid spatial index for static objects.
+ * The map is split into square cells of a few tiles, every object is stored in all cells its
+ * footprint (gridX, gridY, width, height) overlaps. Point and rectangle queries only
+ * look at the cells they cover, so their cost depends on the queried area and not on the
+ * number of objects in the level.
+ */
+public class StaticObjectIndex {
+
+    public static final int DEFAULT_CELL_SIZE = 4;
+
+    private final int cellSize;
+    private final int columns;
+    private final int rows;
+    private final List<StaticObject>[] cells;
+
+    /**
+     * Creates an empty index for a map of the given size.
+     *
+     * @param mapWidth width of the map in tiles.
+     * @param mapHeight height of the map in tiles.
+     * @param cellSize edge length of a cell in tiles.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public StaticObjectIndex(int mapWidth, int mapHeight, int cellSize) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (mapWidth + cellSize - 1) / cellSize);
+        this.rows = Math.max(1, (mapHeight + cellSize - 1) / cellSize);
+        this.cells = new List[columns * rows];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Adds an object to every cell its footprint overlaps.
+     * Parts of the footprint outside the map are ignored.
+     *
+     * @param obj the object to add.
+     */
+    public void add(StaticObject obj) {
+        int fromX = cellX(obj.getGridX());
+        int toX = cellX(obj.getGridX() + Math.max(obj.getWidth(), 1) - 1);
+        int fromY = cellY(obj.getGridY());
+        int toY = cellY(obj.getGridY() + Math.max(obj.getHeight(), 1) - 1);
+        for (int cy = fromY; cy <= toY; cy++) {
+            for (int cx = fromX; cx <= toX; cx++) {
+                cells[cy * columns + cx].add(obj);
+            }
+        }
+    }
+
+    /**
+     * Removes an object from all cells it was added to.
+     *
+     * @param obj the object to remove.
+     */
+    public void remove(StaticObject obj) {
+        int fromX = cellX(obj.getGridX());
+        int toX = cellX(obj.getGridX() + Math.max(obj.getWidth(), 1) - 1);
+        int fromY = cellY(obj.getGridY());
+        int toY = cellY(obj.getGridY() + Math.max(obj.getHeight(), 1) - 1);
+        for (int cy = fromY; cy <= toY; cy++) {
+            for (int cx = fromX; cx <= toX; cx++) {
+                cells[cy * columns + cx].remove(obj);
+            }
+        }
+    }
+
+    /**
+     * Returns the first object whose footprint covers a tile.
+     *
+     * @param x x-coordinate of the tile.
+     * @param y y-coordinate of the tile.
+     * @return the object covering the tile, or null if there is none.
+     */
+    public StaticObject getAt(int x, int y) {
+        if (!isInside(x, y)) {
+            return null;
+        }
+        for (StaticObject obj : cells[cellY(y) * columns + cellX(x)]) {
+            if (covers(obj, x, y)) {
+                return obj;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Collects all objects whose footprint covers a tile.
+     *
+     * @param x x-coordinate of the tile.
+     * @param y y-coordinate of the tile.
+     * @param out list the objects are added to.
+     */
+    public void getAllAt(int x, int y, List<StaticObject> out) {
+        if (!isInside(x, y)) {
+            return;
+        }
+        for (StaticObject obj : cells[cellY(y) * columns + cellX(x)]) {
+            if (covers(obj, x, y)) {
+                out.add(obj);
+            }
+        }
+    }
+
+    /**
+     * Collects all objects overlapping a rectangle of tiles. Every object is reported once,
+     * even if it is stored in several of the covered cells.
+     *
+     * @param x x-coordinate of the bottom left tile.
+     * @param y y-coordinate of the bottom left tile.
+     * @param width width of the rectangle in tiles.
+     * @param height height of the rectangle in tiles.
+     * @param out list the objects are added to.
+     */
+    public void query(int x, int y, int width, int height, List<StaticObject> out) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        int fromX = cellX(x);
+        int toX = cellX(x + width - 1);
+        int fromY = cellY(y);
+        int toY = cellY(y + height - 1);
+
+        for (int cy = fromY; cy <= toY; cy++) {
+            for (int cx = fromX; cx <= toX; cx++) {
+                for (StaticObject obj : cells[cy * columns + cx]) {
+                    if (!overlaps(obj, x, y, width, height)) continue;
+                    // an object spanning several cells is only reported by the first cell both share
+                    if (cx != Math.max(fromX, cellX(obj.getGridX()))) continue;
+                    if (cy != Math.max(fromY, cellY(obj.getGridY()))) continue;
+                    out.add(obj);
+                }
+            }
+        }
+    }
+
+    private int cellX(int x) {
+        return Math.min(Math.max(x, 0) / cellSize, columns - 1);
+    }
+
+    private int cellY(int y) {
+        return Math.min(Math.max(y, 0) / cellSize, rows - 1);
+    }
+
+    private boolean isInside(int x, int y) {
+        return x >= 0 && y >= 0 && x < columns * cellSize && y < rows * cellSize;
+    }
+
+    private static boolean covers(StaticObject obj, int x, int y) {
+        return x >= obj.getGridX() && x < obj.getGridX() + Math.max(obj.getWidth(), 1)
+                && y >= obj.getGridY() && y < obj.getGridY() + Math.max(obj.getHeight(), 1);
+    }
+
+    private static boolean overlaps(StaticObject obj, int x, int y, int width, int height) {
+        return obj.getGridX() < x + width && obj.getGridX() + Math.max(obj.getWidth(), 1) > x
+                && obj.getGridY() < y + height && obj.getGridY() + Math.max(obj.getHeight(), 1) > y;
+    }
+}
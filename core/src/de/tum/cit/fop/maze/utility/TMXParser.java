@@ -5,7 +5,6 @@ import com.badlogic.gdx.maps.MapLayers;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.badlogic.gdx.math.Rectangle;
 import de.tum.cit.fop.maze.MazeRunnerGame;
 import de.tum.cit.fop.maze.actors.Boss;
@@ -16,9 +15,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * TMXParser is responsible for loading and parsing TMX map files. It loads corresponding graphics.
+ * TMXParser is responsible for parsing TMX map files.
  * It extracts game objects and actor's starting positions, including static objects, player, enemy etc.
- * from the tile-based map.
+ * from the tile-based map in a single walk over its object layers, or from the precompiled {@link LevelFile}.
+ * The map itself is loaded once by the asset cache and shared with the renderer.
  */
 
 public class TMXParser {
@@ -26,104 +26,111 @@ public class TMXParser {
     private final TiledMap tiledMap;
     private final int tileSize;
 
+    private final List<StaticObject> staticObjects = new ArrayList<>();
+    private final List<Enemy> enemies = new ArrayList<>();
+    private Boss boss;
+    private int[] playerStartingPosition = {1, 1};
+    private boolean entryFound;
+
     /**
-     * Creates a new TMXParser instance and loads a tiled map from the given file path.
+     * Creates a new TMXParser instance for an already loaded tiled map.
      *
-     * @param tmxFilePath the path to the TMX map file.
+     * @param tiledMap the loaded TMX map.
      * @param tileSize the size of a single tile in pixels.
      */
-    public TMXParser(String tmxFilePath, int tileSize) {
-        this.tiledMap = new TmxMapLoader().load(tmxFilePath);
+    public TMXParser(TiledMap tiledMap, int tileSize) {
+        this.tiledMap = tiledMap;
         this.tileSize = tileSize;
     }
 
     /**
-     * Parses static objects from the TMX map and returns a list of them.
+     * Walks over all object layers once and creates the objects they describe.
      * Static objects include walls, keys, traps, teleporter, DialogueTile.
+     * The results can be read with the getters afterwards.
      *
      * @param game the MazeRunnerGame instance needed for object creation.
-     * @return a list of parsed static objects.
+     * @param worldGenerator the WorldGenerator instance for enemy and boss creation.
      */
-    public List<StaticObject> parseStaticObjects(MazeRunnerGame game) {
-        List<StaticObject> objects = new ArrayList<>();
-
+    public void parse(MazeRunnerGame game, WorldGenerator worldGenerator) {
         MapLayers mapLayers = tiledMap.getLayers();
 
         for (MapLayer layer : mapLayers) {
-            if (layer.getObjects() != null) {
-                for (MapObject obj : layer.getObjects()) {
-                    if (obj instanceof RectangleMapObject rectObj) {
-                        Rectangle rect = rectObj.getRectangle();
-                        int startX = (int) (rect.x / tileSize);
-                        int startY = (int) (rect.y / tileSize);
-                        int width = (int) (rect.width / tileSize);
-                        int height = (int) (rect.height / tileSize);
-                        String type = layer.getName();
-
-                        switch (type) {
-                            case "Walls" -> objects.add(new Wall(game, startX, startY, width, height));
-                            case "Key" -> objects.add(new Key(game, startX, startY, width, height));
-                            case "Entry" -> objects.add(new Entry(game, startX, startY, width, height));
-                            case "Trap Damage" -> objects.add(new TrapDamage(game, startX, startY, width, height));
-                            case "Trap Debuff" -> objects.add(new TrapDebuff(game, startX, startY, width, height));
-                            case "Teleporter" -> objects.add(new Exit(game, startX, startY, width, height));
-                            case "DialogueTile" -> objects.add(new DialogueTile(game, startX, startY, width, height));
-                            case "CutsceneTile" -> objects.add(new CutsceneTile(game, startX, startY, width, height));
-                        }
-                    }
+            if (layer.getObjects() == null) continue;
+            int type = LevelFile.getType(layer.getName());
+            if (type == -1) continue;
+
+            for (MapObject obj : layer.getObjects()) {
+                if (obj instanceof RectangleMapObject rectObj) {
+                    Rectangle rect = rectObj.getRectangle();
+                    int startX = (int) (rect.x / tileSize);
+                    int startY = (int) (rect.y / tileSize);
+                    int width = (int) (rect.width / tileSize);
+                    int height = (int) (rect.height / tileSize);
+                    createObject(type, startX, startY, width, height, game, worldGenerator);
                 }
             }
         }
-        return objects;
     }
 
     /**
-     * Parses enemies from the TMX map and returns a list of them.
+     * Creates the objects stored in a precompiled level file instead of walking the map's object layers.
      *
-     * @param worldGenerator the WorldGenerator instance for enemy instantiation.
-     * @return a list of parsed enemies.
+     * @param levelFile the compiled level.
+     * @param game the MazeRunnerGame instance needed for object creation.
+     * @param worldGenerator the WorldGenerator instance for enemy and boss creation.
      */
-    public List<Enemy> parseEnemies(WorldGenerator worldGenerator) {
-        List<Enemy> enemies = new ArrayList<>();
-        MapLayers mapLayers = tiledMap.getLayers();
+    public void parse(LevelFile levelFile, MazeRunnerGame game, WorldGenerator worldGenerator) {
+        for (int i = 0; i < levelFile.getObjectCount(); i++) {
+            createObject(levelFile.getObjectType(i),
+                    levelFile.getObjectX(i), levelFile.getObjectY(i),
+                    levelFile.getObjectWidth(i), levelFile.getObjectHeight(i),
+                    game, worldGenerator);
+        }
+    }
 
-        for (MapLayer layer : mapLayers) {
-            if (layer.getName().equals("Enemy") && layer.getObjects() != null) {
-                for (MapObject obj : layer.getObjects()) {
-                    if (obj instanceof RectangleMapObject rectObj) {
-                        Rectangle rect = rectObj.getRectangle();
-                        int startX = (int) (rect.x / tileSize);
-                        int startY = (int) (rect.y / tileSize);
-                        enemies.add(new Enemy(startX, startY, worldGenerator));
-                    }
+    /**
+     * Creates a single object from its type code and position in tiles.
+     */
+    private void createObject(int type, int startX, int startY, int width, int height,
+                              MazeRunnerGame game, WorldGenerator worldGenerator) {
+        switch (type) {
+            case LevelFile.WALL -> staticObjects.add(new Wall(game, startX, startY, width, height));
+            case LevelFile.KEY -> staticObjects.add(new Key(game, startX, startY, width, height));
+            case LevelFile.ENTRY -> {
+                if (!entryFound) {
+                    playerStartingPosition = new int[]{startX, startY};
+                    entryFound = true;
                 }
+                staticObjects.add(new Entry(game, startX, startY, width, height));
             }
+            case LevelFile.TRAP_DAMAGE -> staticObjects.add(new TrapDamage(game, startX, startY, width, height));
+            case LevelFile.TRAP_DEBUFF -> staticObjects.add(new TrapDebuff(game, startX, startY, width, height));
+            case LevelFile.TELEPORTER -> staticObjects.add(new Exit(game, startX, startY, width, height));
+            case LevelFile.DIALOGUE_TILE -> staticObjects.add(new DialogueTile(game, startX, startY, width, height));
+            case LevelFile.CUTSCENE_TILE -> staticObjects.add(new CutsceneTile(game, startX, startY, width, height));
+            case LevelFile.ENEMY -> enemies.add(new Enemy(startX, startY, worldGenerator));
+            case LevelFile.BOSS -> boss = new Boss(startX, startY, worldGenerator);
         }
-        return enemies;
     }
 
     /**
-     * Parses the boss character from the TMX map and returns it.
-     *
-     * @param worldGenerator the WorldGenerator instance for boss creation.
-     * @return the Boss instance or null if not found.
+     * @return the static objects found by {@link #parse}.
      */
-    public Boss parseBoss(WorldGenerator worldGenerator) {
-        Boss boss = null;
-        MapLayers mapLayers = tiledMap.getLayers();
+    public List<StaticObject> getStaticObjects() {
+        return staticObjects;
+    }
 
-        for (MapLayer layer : mapLayers) {
-            if (layer.getName().equals("Boss") && layer.getObjects() != null) {
-                for (MapObject obj : layer.getObjects()) {
-                    if (obj instanceof RectangleMapObject rectObj) {
-                        Rectangle rect = rectObj.getRectangle();
-                        int startX = (int) (rect.x / tileSize);
-                        int startY = (int) (rect.y / tileSize);
-                        boss = new Boss(startX, startY, worldGenerator);
-                    }
-                }
-            }
-        }
+    /**
+     * @return the enemies found by {@link #parse}.
+     */
+    public List<Enemy> getEnemies() {
+        return enemies;
+    }
+
+    /**
+     * @return the boss found by {@link #parse}, or null if the level has none.
+     */
+    public Boss getBoss() {
         return boss;
     }
 
@@ -131,22 +138,9 @@ public class TMXParser {
      * Returns the player's starting position (Entry).
      * If no entry point is found, defaults to (1,1).
      *
-     * @param game the MazeRunnerGame instance.
      * @return an array containing the x and y coordinates of the player's starting position.
      */
-    public int[] findPlayerStartingPosition(MazeRunnerGame game) {
-        for (StaticObject obj : parseStaticObjects(game)) {
-            if (obj instanceof Entry) {
-                return new int[]{obj.getGridX(), obj.getGridY()};
-            }
-        }
-        return new int[]{1, 1};
-    }
-
-    /**
-     * Disposes of the tiled map resources to free up memory.
-     */
-    public void dispose() {
-        tiledMap.dispose();
+    public int[] getPlayerStartingPosition() {
+        return playerStartingPosition;
     }
 }
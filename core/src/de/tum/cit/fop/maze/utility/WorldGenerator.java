@@ -3,17 +3,18 @@ package de.tum.cit.fop.maze.utility;
 import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import de.tum.cit.fop.maze.MazeRunnerGame;
+import de.tum.cit.fop.maze.actors.Actor;
 import de.tum.cit.fop.maze.actors.Boss;
 import de.tum.cit.fop.maze.actors.Enemy;
 import de.tum.cit.fop.maze.actors.Player;
 import de.tum.cit.fop.maze.staticObjects.*;
 
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * WorldGenerator is responsible for creating and managing the game world.
@@ -23,17 +24,34 @@ import java.util.Set;
 
 public class WorldGenerator {
 
+    /**
+     * Number of hearts and shields placed in each level, indexed by level number.
+     */
+    private static final int[][] POWER_UPS = {{0, 0}, {3, 2}, {2, 2}, {2, 1}, {1, 1}};
+
     private final TiledMap tiledMap;
-    private final TMXParser tmxParser;
     private static int mapWidth, mapHeight;
 
-    private final Set<String> impassableTiles = new HashSet<>();
+    private PassabilityGrid passability;
+    private FlowField flowField;
+    private OccupancyGrid occupancy;
+    private DepthOrder depthOrder;
+    private EnemySystem enemySystem;
+    private PathService pathService;
+    private NextHopTable nextHopTable;
+    // build of the next-hop table for the latest passability, null if none is running
+    private ForkJoinTask<NextHopTable> nextHopBuild;
 
     private List<StaticObject> staticObjects;
+    private StaticObjectIndex staticObjectIndex;
+    private final List<StaticObject> triggeredObjects = new ArrayList<>();
+    private final List<StaticObject> overlappingObjects = new ArrayList<>();
+    private int nextDrawOrder;
     private Exit exit;
     private final List<Enemy> enemies;
     private final Boss boss;
     private final Player player;
+    private final MazeRunnerGame game;
     private final Random random = new Random();
     private Key key;
 
@@ -46,20 +64,31 @@ public class WorldGenerator {
      * @param level The level number to load.
      */
     public WorldGenerator(MazeRunnerGame game, int level) {
-        String filePath = "maps/Level " + level + ".tmx";
-        this.tiledMap = new TmxMapLoader().load(filePath);
-        this.tmxParser = new TMXParser(filePath, Settings.TILE_SIZE);
+        this.game = game;
+        String filePath = getMapPath(level);
+        this.tiledMap = game.getAssets().getTiledMap(filePath);
+        player = game.player;
 
-        int[] startPosition = tmxParser.findPlayerStartingPosition(game);
+        enemySystem = new EnemySystem(this, level);
+        pathService = new PathService(this);
 
-        player = game.player;
-        player.spawnPlayer(startPosition[0], startPosition[1], this);
-        enemies = tmxParser.parseEnemies(this);
-        boss = tmxParser.parseBoss(this);
+        LevelFile levelFile = game.loadLevelFile(level);
+        TMXParser tmxParser = new TMXParser(tiledMap, Settings.TILE_SIZE);
+        if (levelFile != null) {
+            tmxParser.parse(levelFile, game, this);
+        } else {
+            tmxParser.parse(game, this);
+        }
 
-        staticObjects = tmxParser.parseStaticObjects(game);
+        int[] startPosition = tmxParser.getPlayerStartingPosition();
+        player.spawnPlayer(startPosition[0], startPosition[1], this);
+        enemies = tmxParser.getEnemies();
+        boss = tmxParser.getBoss();
+        staticObjects = tmxParser.getStaticObjects();
 
         for (StaticObject obj : staticObjects) {
+            obj.setWorld(this);
+            obj.setDrawOrder(nextDrawOrder++);
             if (obj instanceof Key) {
                 this.key = (Key) obj;
             } else if (obj instanceof Exit) {
@@ -68,13 +97,40 @@ public class WorldGenerator {
         }
 
         initializeMapDimensions();
-        updateImpassableTiles();
-        switch (level) {
-            case 1 -> generatePowerUps(game, 3, 2);
-            case 2 -> generatePowerUps(game, 2, 2);
-            case 3 -> generatePowerUps(game, 2, 1);
-            case 4 -> generatePowerUps(game, 1, 1);
+        passability = new PassabilityGrid(mapWidth, mapHeight);
+        flowField = new FlowField(mapWidth, mapHeight);
+        staticObjectIndex = new StaticObjectIndex(mapWidth, mapHeight, StaticObjectIndex.DEFAULT_CELL_SIZE);
+        for (StaticObject obj : staticObjects) {
+            staticObjectIndex.add(obj);
+        }
+        occupancy = new OccupancyGrid(mapWidth, mapHeight);
+        for (Enemy enemy : enemies) {
+            enemy.setOccupancyId(occupancy.register(enemy));
+        }
+        if (boss != null) {
+            boss.setOccupancyId(occupancy.register(boss));
         }
+        depthOrder = new DepthOrder(mapHeight);
+        depthOrder.add(player);
+        for (Enemy enemy : enemies) {
+            depthOrder.add(enemy);
+        }
+        if (boss != null) {
+            depthOrder.add(boss);
+        }
+        buildPassability(levelFile);
+        nextHopTable = NextHopTable.build(passability, Settings.NEXT_HOP_CELL_LIMIT);
+        if (hasPowerUps(level)) {
+            generatePowerUps(game, POWER_UPS[level][0], POWER_UPS[level][1]);
+        }
+    }
+
+    /**
+     * @param level the level number.
+     * @return true if hearts and shields are placed in the level.
+     */
+    public static boolean hasPowerUps(int level) {
+        return level > 0 && level < POWER_UPS.length;
     }
 
     /**
@@ -95,8 +151,26 @@ public class WorldGenerator {
         return staticObjects;
     }
 
+    public StaticObjectIndex getStaticObjectIndex() {
+        return staticObjectIndex;
+    }
+
     public Player getPlayer() { return player; }
 
+    /**
+     * Returns the path of the map file of a level.
+     *
+     * @param level the level number.
+     * @return internal path of the TMX file.
+     */
+    public static String getMapPath(int level) {
+        return "maps/Level " + level + ".tmx";
+    }
+
+    public MazeRunnerGame getGame() {
+        return game;
+    }
+
     public List<Enemy> getEnemies() {
         return enemies;
     }
@@ -109,6 +183,24 @@ public class WorldGenerator {
         return exit;
     }
 
+    public PassabilityGrid getPassability() {
+        return passability;
+    }
+
+    /**
+     * Returns the version of the world's passability.
+     * The number increases every time a tile becomes passable or impassable,
+     * so caches can compare it to find out whether they are outdated.
+     * @return the current passability version.
+     */
+    public int getPassabilityVersion() {
+        return passability.getVersion();
+    }
+
+    public FlowField getFlowField() {
+        return flowField;
+    }
+
     /**
      * Initializes map dimensions from the tile layer.
      */
@@ -128,10 +220,10 @@ public class WorldGenerator {
      *
      * @param x X-coordinate of the tile.
      * @param y Y-coordinate of the tile.
-     * @return True if passable, false otherwise.
+     * @return True if passable, false otherwise or if the position is outside the map.
      */
     public boolean isPassable(int x, int y) {
-        return !impassableTiles.contains(x + "," + y);
+        return passability.isPassable(x, y);
     }
 
     /**
@@ -142,29 +234,100 @@ public class WorldGenerator {
      * @return True if occupied by an enemy, false otherwise.
      */
     public boolean isOccupiedByEnemy(int x, int y) {
-        for (Enemy enemy : enemies) {
-            if (enemy.getX() == x && enemy.getY() == y) {
-                return true;
-            }
+        return occupancy.isOccupied(x, y);
+    }
+
+    public OccupancyGrid getOccupancy() {
+        return occupancy;
+    }
+
+    public DepthOrder getDepthOrder() {
+        return depthOrder;
+    }
+
+    public EnemySystem getEnemySystem() {
+        return enemySystem;
+    }
+
+    public PathService getPathService() {
+        return pathService;
+    }
+
+    /**
+     * Returns the next-hop table of the level.
+     * A table built in the background after a passability change replaces the old one here once it is finished.
+     * @return the table, null if the level has too many passable tiles for one or it is outdated.
+     */
+    public NextHopTable getNextHopTable() {
+        if (nextHopBuild != null && nextHopBuild.isDone()) {
+            nextHopTable = nextHopBuild.join();
+            nextHopBuild = null;
         }
-        return false;
+        if (nextHopTable == null || nextHopTable.getBuiltVersion() != passability.getVersion()) {
+            return null;
+        }
+        return nextHopTable;
     }
 
     /**
-     * Updates the list of impassable tiles based on static objects.
+     * Builds the passability grid from all static objects.
+     * Called once when the level is loaded, later changes are applied by {@link #updatePassability(StaticObject)}.
+     * If the level was precompiled, the walls are copied from its bitset and only the other objects are applied.
+     *
+     * @param levelFile the compiled level, or null if the level was parsed from TMX.
      */
-    public void updateImpassableTiles() {
-        impassableTiles.clear();
+    private void buildPassability(LevelFile levelFile) {
+        boolean precompiledWalls = levelFile != null
+                && levelFile.getWidth() == mapWidth && levelFile.getHeight() == mapHeight;
+        if (precompiledWalls) {
+            passability.setWords(levelFile.getWalls());
+        } else {
+            passability.clear();
+        }
 
         for (StaticObject obj : staticObjects) {
+            if (precompiledWalls && obj instanceof Wall) continue;
             if (!obj.isPassable()) {
-                for (int x = obj.getGridX(); x < obj.getGridX() + obj.getWidth(); x++) {
-                    for (int y = obj.getGridY(); y < obj.getGridY() + obj.getHeight(); y++) {
-                        impassableTiles.add(x + "," + y);
-                    }
-                }
+                passability.setPassable(obj.getGridX(), obj.getGridY(), obj.getWidth(), obj.getHeight(), false);
+            }
+        }
+    }
+
+    /**
+     * Updates the passability of the tiles covered by an object after it announced a change,
+     * e.g. the exit unlocking when the player collects the key.
+     * Other impassable objects overlapping the same tiles keep them blocked.
+     * The next-hop table, if the level has one, is built again for the new passability in the background,
+     * until it is finished the enemies search their paths.
+     *
+     * @param changed the object whose passability changed.
+     */
+    public void updatePassability(StaticObject changed) {
+        int fromX = changed.getGridX();
+        int fromY = changed.getGridY();
+        int toX = fromX + changed.getWidth();
+        int toY = fromY + changed.getHeight();
+
+        passability.setPassable(fromX, fromY, changed.getWidth(), changed.getHeight(), true);
+
+        overlappingObjects.clear();
+        staticObjectIndex.query(fromX, fromY, changed.getWidth(), changed.getHeight(), overlappingObjects);
+        for (StaticObject obj : overlappingObjects) {
+            if (obj.isPassable()) continue;
+
+            int overlapFromX = Math.max(fromX, obj.getGridX());
+            int overlapFromY = Math.max(fromY, obj.getGridY());
+            int overlapToX = Math.min(toX, obj.getGridX() + obj.getWidth());
+            int overlapToY = Math.min(toY, obj.getGridY() + obj.getHeight());
+            if (overlapFromX < overlapToX && overlapFromY < overlapToY) {
+                passability.setPassable(overlapFromX, overlapFromY, overlapToX - overlapFromX, overlapToY - overlapFromY, false);
             }
         }
+        if (nextHopTable != null || nextHopBuild != null) {
+            // a build for an older passability may still be running, its result is simply not used
+            PassabilityGrid snapshot = passability.copy();
+            nextHopBuild = ForkJoinPool.commonPool().submit(() -> NextHopTable.build(snapshot, Settings.NEXT_HOP_CELL_LIMIT));
+        }
     }
 
     /**
@@ -183,18 +346,44 @@ public class WorldGenerator {
                 randomY = random.nextInt(getMapHeight());
             } while  (!isValidPowerUpPosition(randomX, randomY));
 
-            staticObjects.add(new Heart(game, randomX, randomY, 1, 1));
+            addStaticObject(new Heart(game, randomX, randomY, 1, 1));
         }
         for (int i = 0; i < shieldCount; i++) {
             do {
                 randomX = random.nextInt(getMapWidth());
                 randomY = random.nextInt(getMapHeight());
             } while (!isValidPowerUpPosition(randomX, randomY));
-            staticObjects.add(new Shield(game, randomX, randomY, 1, 1));
+            addStaticObject(new Shield(game, randomX, randomY, 1, 1));
         }
     }
 
 
+    /**
+     * Adds a static object to the world after the level has been loaded.
+     *
+     * @param obj the object to add.
+     */
+    private void addStaticObject(StaticObject obj) {
+        obj.setWorld(this);
+        obj.setDrawOrder(nextDrawOrder++);
+        staticObjects.add(obj);
+        staticObjectIndex.add(obj);
+    }
+
+    /**
+     * Removes hearts and shields the player has collected from the world.
+     */
+    public void removeCollectedPowerUps() {
+        staticObjects.removeIf(obj -> {
+            boolean collected = (obj instanceof Heart heart && heart.isCollected())
+                    || (obj instanceof Shield shield && shield.isCollected());
+            if (collected) {
+                staticObjectIndex.remove(obj);
+            }
+            return collected;
+        });
+    }
+
     /**
      * Checks if a power-up can be placed at a specific position.
      *
@@ -211,28 +400,69 @@ public class WorldGenerator {
             return false;
         }
 
-        for (StaticObject obj : staticObjects) {
-            if (obj.getGridX() == x && obj.getGridY() == y) {
-                return true;
-            }
-        }
-        return true;
+        return staticObjectIndex.getAt(x, y) == null;
     }
 
 
     /**
-     * Returns the static object at a given position.
+     * Returns the static object covering a given position.
      *
      * @param nextX X-coordinate.
      * @param nextY Y-coordinate.
      * @return The static object at the given position, or null if none exists.
      */
     public StaticObject getStaticObjectAt(int nextX, int nextY) {
-        for (StaticObject obj : staticObjects) {
-            if (obj.getGridX() == nextX && obj.getGridY() == nextY) {
-                return obj;
+        return staticObjectIndex.getAt(nextX, nextY);
+    }
+
+    /**
+     * Notifies the objects covering the tile an actor arrived on.
+     * Objects that also cover the tile the actor came from are not notified again.
+     *
+     * @param actor the actor that moved.
+     * @param fromX x-coordinate of the tile the actor came from.
+     * @param fromY y-coordinate of the tile the actor came from.
+     * @param toX x-coordinate of the tile the actor arrived on.
+     * @param toY y-coordinate of the tile the actor arrived on.
+     */
+    public void dispatchTileEnter(Actor actor, int fromX, int fromY, int toX, int toY) {
+        triggeredObjects.clear();
+        staticObjectIndex.getAllAt(toX, toY, triggeredObjects);
+        for (StaticObject obj : triggeredObjects) {
+            if (!obj.covers(fromX, fromY)) {
+                obj.onTileEnter(actor);
             }
         }
-        return null;
+    }
+
+    /**
+     * Notifies the objects covering the tile an actor is leaving.
+     * Objects that also cover the tile the actor moves to are not notified.
+     *
+     * @param actor the actor that moved.
+     * @param fromX x-coordinate of the tile the actor leaves.
+     * @param fromY y-coordinate of the tile the actor leaves.
+     * @param toX x-coordinate of the tile the actor moves to.
+     * @param toY y-coordinate of the tile the actor moves to.
+     */
+    public void dispatchTileExit(Actor actor, int fromX, int fromY, int toX, int toY) {
+        triggeredObjects.clear();
+        staticObjectIndex.getAllAt(fromX, fromY, triggeredObjects);
+        for (StaticObject obj : triggeredObjects) {
+            if (!obj.covers(toX, toY)) {
+                obj.onTileExit(actor);
+            }
+        }
+    }
+
+    /**
+     * Collects all static objects covering a given position.
+     *
+     * @param x X-coordinate.
+     * @param y Y-coordinate.
+     * @param out list the objects are added to.
+     */
+    public void getStaticObjectsAt(int x, int y, List<StaticObject> out) {
+        staticObjectIndex.getAllAt(x, y, out);
     }
 }
@@ -29,7 +29,8 @@ public class DesktopLauncher {
 		);
 		config.setResizable(true);
 		config.useVsync(true); // Enable vertical sync
-		config.setForegroundFPS(60); // Set the foreground frames per second
+		// Match the monitor's refresh rate, the game logic runs at a fixed tick rate independent of it
+		config.setForegroundFPS(displayMode.refreshRate);
 
 		// Launch the game
 		new Lwjgl3Application(new MazeRunnerGame(new DesktopFileChooser()), config);